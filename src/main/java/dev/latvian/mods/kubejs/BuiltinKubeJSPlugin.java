@@ -55,6 +55,7 @@ import dev.latvian.mods.kubejs.block.entity.CustomCapabilityAttachment;
 import dev.latvian.mods.kubejs.block.entity.EnergyStorageAttachment;
 import dev.latvian.mods.kubejs.block.entity.FluidTankAttachment;
 import dev.latvian.mods.kubejs.block.entity.InventoryAttachment;
+import dev.latvian.mods.kubejs.block.state.BlockStateIdSet;
 import dev.latvian.mods.kubejs.block.state.BlockStatePredicate;
 import dev.latvian.mods.kubejs.color.KubeColor;
 import dev.latvian.mods.kubejs.component.DataComponentWrapper;
@@ -68,6 +69,7 @@ import dev.latvian.mods.kubejs.fluid.FluidTypeBuilder;
 import dev.latvian.mods.kubejs.fluid.FluidWrapper;
 import dev.latvian.mods.kubejs.fluid.ThickFluidBuilder;
 import dev.latvian.mods.kubejs.fluid.ThinFluidBuilder;
+import dev.latvian.mods.kubejs.ingredient.IngredientItemSet;
 import dev.latvian.mods.kubejs.item.ArmorMaterialBuilder;
 import dev.latvian.mods.kubejs.item.ItemBuilder;
 import dev.latvian.mods.kubejs.item.ItemEnchantmentsWrapper;
@@ -733,6 +735,8 @@ public class BuiltinKubeJSPlugin implements KubeJSPlugin {
 		ItemWrapper.CACHED_ITEM_MAP.forget();
 		ItemWrapper.CACHED_ITEM_LIST.forget();
 		ItemWrapper.CACHED_ITEM_TYPE_LIST.forget();
+		IngredientItemSet.clearCache();
+		BlockStateIdSet.invalidateAll();
 	}
 
 	@Override
@@ -33,6 +33,12 @@ public class CommonProperties extends BaseProperties {
 	public boolean allowAsyncStreams;
 	public boolean matchJsonRecipes;
 	public boolean ignoreCustomUniqueRecipeIds;
+	public boolean cacheRecipes;
+	public boolean lazyRecipeDeserialization;
+	public boolean parallelTagLoading;
+	public int consoleLogBufferSize;
+	public String consoleLogOverflow;
+	public String stageSync;
 	public boolean startupErrorGUI;
 	public String startupErrorReportUrl;
 	public boolean removeSlotLimit;
@@ -54,6 +60,12 @@ public class CommonProperties extends BaseProperties {
 		allowAsyncStreams = get("allow_async_streams", true);
 		matchJsonRecipes = get("match_json_recipes", true);
 		ignoreCustomUniqueRecipeIds = get("ignore_custom_unique_recipe_ids", false);
+		cacheRecipes = get("cache_recipes", false);
+		lazyRecipeDeserialization = get("lazy_recipe_deserialization", false);
+		parallelTagLoading = get("parallel_tag_loading", false);
+		consoleLogBufferSize = Math.max(16, get("console_log_buffer_size", 8192));
+		consoleLogOverflow = get("console_log_overflow", "block");
+		stageSync = get("stage_sync", "all");
 		startupErrorGUI = get("startup_error_gui", true);
 		startupErrorReportUrl = get("startup_error_report_url", "");
 		removeSlotLimit = get("remove_slot_limit", false);
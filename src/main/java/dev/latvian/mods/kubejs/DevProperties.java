@@ -34,6 +34,8 @@ public class DevProperties extends BaseProperties {
 	public boolean strictTags;
 	public boolean alwaysCaptureErrors;
 	public boolean reloadOnFileSave;
+	public boolean incrementalScriptReload;
+	public boolean parallelRecipeDiscovery;
 	public String kubedexSound;
 
 	private DevProperties() {
@@ -61,6 +63,8 @@ public class DevProperties extends BaseProperties {
 		strictTags = get("strict_tags", false);
 		alwaysCaptureErrors = get("always_capture_errors", false);
 		reloadOnFileSave = get("reload_on_file_save", false);
+		incrementalScriptReload = get("incremental_script_reload", false);
+		parallelRecipeDiscovery = get("parallel_recipe_discovery", true);
 		kubedexSound = get("kubedex_sound", "entity.experience_orb.pickup");
 	}
 }
\ No newline at end of file
@@ -49,6 +49,7 @@ public interface KubeJSPaths {
 	Path LOCAL_DEV_PROPERTIES = LOCAL.resolve("dev.json");
 	Path EXPORT = dir(LOCAL.resolve("export"));
 	Path EXPORTED_PACKS = dir(LOCAL.resolve("exported_packs"));
+	Path CACHE = dir(LOCAL.resolve("cache"));
 	Path LOCAL_STARTUP_SCRIPTS = dir(LOCAL.resolve("local_startup_scripts"));
 	Path LOCAL_SERVER_SCRIPTS = dir(LOCAL.resolve("local_server_scripts"));
 
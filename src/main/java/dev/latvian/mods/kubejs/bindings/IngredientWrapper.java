@@ -85,7 +85,9 @@ public interface IngredientWrapper {
 		} else if (o instanceof JsonElement json) {
 			return parseJson(cx, json);
 		} else if (o instanceof CharSequence) {
-			return parseString(RegistryAccessContainer.of(cx), o.toString());
+			var registries = RegistryAccessContainer.of(cx);
+			var s = o.toString();
+			return s.indexOf('#') >= 0 ? parseString(registries, s) : registries.ingredientParseCache().get(s, k -> parseString(registries, k));
 		}
 
 		List<?> list = ListJS.of(o);
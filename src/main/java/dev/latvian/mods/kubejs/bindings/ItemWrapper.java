@@ -147,27 +147,21 @@ public interface ItemWrapper {
 
 			return ItemStack.EMPTY;
 		} else if (o instanceof CharSequence) {
-			var os = o.toString().trim();
-			var s = os;
 			var registries = RegistryAccessContainer.of(cx);
-			var cached = registries.itemStackParseCache().get(os);
 
-			if (cached != null) {
-				return cached.copy();
-			}
-
-			var count = 1;
-			var spaceIndex = s.indexOf(' ');
+			return registries.itemStackParseCache().get(o.toString().trim(), s -> {
+				var count = 1;
+				var spaceIndex = s.indexOf(' ');
 
-			if (spaceIndex >= 2 && s.indexOf('x') == spaceIndex - 1) {
-				count = Integer.parseInt(s.substring(0, spaceIndex - 1));
-				s = s.substring(spaceIndex + 1);
-			}
+				if (spaceIndex >= 2 && s.indexOf('x') == spaceIndex - 1) {
+					count = Integer.parseInt(s.substring(0, spaceIndex - 1));
+					s = s.substring(spaceIndex + 1);
+				}
 
-			cached = parseString(registries.nbt(), s);
-			cached.setCount(count);
-			registries.itemStackParseCache().put(os, cached);
-			return cached.copy();
+				var stack = parseString(registries.nbt(), s);
+				stack.setCount(count);
+				return stack;
+			}).copy();
 		}
 
 		var map = cx.optionalMapOf(o);
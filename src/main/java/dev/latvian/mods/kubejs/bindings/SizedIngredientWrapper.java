@@ -49,16 +49,22 @@ public interface SizedIngredientWrapper {
 		} else if (from instanceof ItemLike item) {
 			return Ingredient.of(item).kjs$asStack();
 		} else if (from instanceof CharSequence) {
-			try {
-				return read(RegistryAccessContainer.of(cx), new StringReader(from.toString()));
-			} catch (Exception ex) {
-				return empty;
-			}
+			var registries = RegistryAccessContainer.of(cx);
+			var s = from.toString();
+			return s.indexOf('#') >= 0 ? parseString(registries, s) : registries.sizedIngredientParseCache().get(s, k -> parseString(registries, k));
 		}
 
 		return IngredientWrapper.wrap(cx, from).kjs$asStack();
 	}
 
+	private static SizedIngredient parseString(RegistryAccessContainer registries, String s) {
+		try {
+			return read(registries, new StringReader(s));
+		} catch (Exception ex) {
+			return empty;
+		}
+	}
+
 	@HideFromJS
 	static SizedIngredient read(RegistryAccessContainer registries, StringReader reader) throws CommandSyntaxException {
 		int count = 1;
@@ -11,6 +11,7 @@ import dev.latvian.mods.kubejs.block.BlockStoppedFallingKubeEvent;
 import dev.latvian.mods.kubejs.block.DetectorBlockKubeEvent;
 import dev.latvian.mods.kubejs.block.FarmlandTrampledKubeEvent;
 import dev.latvian.mods.kubejs.block.RandomTickKubeEvent;
+import dev.latvian.mods.kubejs.block.entity.BlockEntityBatchTickKubeEvent;
 import dev.latvian.mods.kubejs.block.entity.BlockEntityTickKubeEvent;
 import dev.latvian.mods.kubejs.event.EventGroup;
 import dev.latvian.mods.kubejs.event.EventHandler;
@@ -36,6 +37,7 @@ public interface BlockEvents {
 	TargetedEventHandler<ResourceKey<Block>> FARMLAND_TRAMPLED = GROUP.common("farmlandTrampled", () -> FarmlandTrampledKubeEvent.class).hasResult().supportsTarget(TARGET);
 	TargetedEventHandler<ResourceKey<Block>> RANDOM_TICK = GROUP.server("randomTick", () -> RandomTickKubeEvent.class).hasResult().requiredTarget(TARGET);
 	TargetedEventHandler<ResourceKey<Block>> BLOCK_ENTITY_TICK = GROUP.common("blockEntityTick", () -> BlockEntityTickKubeEvent.class).requiredTarget(TARGET);
+	TargetedEventHandler<ResourceKey<Block>> BLOCK_ENTITY_BATCH_TICK = GROUP.common("blockEntityBatchTick", () -> BlockEntityBatchTickKubeEvent.class).requiredTarget(TARGET);
 	TargetedEventHandler<ResourceKey<Block>> STARTED_FALLING = GROUP.common("startedFalling", () -> BlockStartedFallingKubeEvent.class).hasResult().supportsTarget(TARGET);
 	TargetedEventHandler<ResourceKey<Block>> STOPPED_FALLING = GROUP.common("stoppedFalling", () -> BlockStoppedFallingKubeEvent.class).supportsTarget(TARGET);
 }
@@ -2,16 +2,23 @@ package dev.latvian.mods.kubejs.block;
 
 import dev.latvian.mods.kubejs.KubeJS;
 import dev.latvian.mods.kubejs.bindings.event.BlockEvents;
+import dev.latvian.mods.kubejs.block.state.BlockStateIdSet;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.event.level.BlockDropsEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 
 @EventBusSubscriber(modid = KubeJS.MOD_ID)
 public class KubeJSBlockEventHandler {
+	@SubscribeEvent
+	public static void tagsUpdated(TagsUpdatedEvent event) {
+		BlockStateIdSet.invalidateAll();
+	}
+
 	@SubscribeEvent
 	public static void rightClick(PlayerInteractEvent.RightClickBlock event) {
 		var state = event.getLevel().getBlockState(event.getPos());
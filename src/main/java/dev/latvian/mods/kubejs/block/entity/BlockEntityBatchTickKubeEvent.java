@@ -0,0 +1,60 @@
+package dev.latvian.mods.kubejs.block.entity;
+
+import dev.latvian.mods.kubejs.level.KubeLevelEvent;
+import dev.latvian.mods.kubejs.typings.Info;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Info("""
+	Invoked once per level tick for all block entities of a block type with batch ticking enabled that are due to tick.
+	The list of entities and their tick views are reused between ticks, so don't keep references to them outside the event.
+	""")
+public class BlockEntityBatchTickKubeEvent implements KubeLevelEvent {
+	private final Level level;
+	final List<KubeBlockEntity> entities;
+	private final List<BlockEntityTickKubeEvent> views;
+	private final List<BlockEntityTickKubeEvent> viewsView;
+
+	public BlockEntityBatchTickKubeEvent(Level level) {
+		this.level = level;
+		this.entities = new ArrayList<>();
+		this.views = new ArrayList<>();
+		this.viewsView = Collections.unmodifiableList(views);
+	}
+
+	void add(KubeBlockEntity entity) {
+		entities.add(entity);
+		views.add(entity.getTickEvent());
+	}
+
+	void removeUnloaded() {
+		for (int i = entities.size() - 1; i >= 0; i--) {
+			if (entities.get(i).isRemoved()) {
+				entities.remove(i);
+				views.remove(i);
+			}
+		}
+	}
+
+	void clear() {
+		entities.clear();
+		views.clear();
+	}
+
+	@Override
+	public Level getLevel() {
+		return level;
+	}
+
+	@Info("Tick views of the block entities that are due this tick")
+	public List<BlockEntityTickKubeEvent> getEntities() {
+		return viewsView;
+	}
+
+	public int size() {
+		return views.size();
+	}
+}
@@ -32,6 +32,7 @@ public class BlockEntityInfo implements BlockEntityAttachmentHandler {
 	public transient boolean attachmentsTicking;
 	public transient int tickFrequency;
 	public transient int tickOffset;
+	public transient boolean batchTicking;
 	public transient boolean sync;
 	public transient Map<String, BlockEntityAttachmentInfo> attachments;
 	public transient Int2ObjectMap<BlockEntityEventCallback> eventHandlers;
@@ -44,6 +45,7 @@ public class BlockEntityInfo implements BlockEntityAttachmentHandler {
 		this.attachmentsTicking = false;
 		this.tickFrequency = 1;
 		this.tickOffset = 0;
+		this.batchTicking = false;
 		this.sync = false;
 		this.attachments = new HashMap<>(1);
 		this.eventHandlers = new Int2ObjectArrayMap<>(0);
@@ -74,6 +76,14 @@ public class BlockEntityInfo implements BlockEntityAttachmentHandler {
 		tickOffset = Math.max(0, offset);
 	}
 
+	/**
+	 * Posts one <code>blockEntityBatchTick</code> event per level tick with all due block entities of this type,
+	 * instead of one <code>blockEntityTick</code> event per block entity. Individual events are still posted if there are no batch listeners.
+	 */
+	public void batchTicking() {
+		batchTicking = true;
+	}
+
 	public void enableSync() {
 		sync = true;
 	}
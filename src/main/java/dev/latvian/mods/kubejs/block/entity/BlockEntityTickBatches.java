@@ -0,0 +1,58 @@
+package dev.latvian.mods.kubejs.block.entity;
+
+import dev.latvian.mods.kubejs.bindings.event.BlockEvents;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.minecraft.world.level.Level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects due block entities of types with {@link BlockEntityInfo#batchTicking} during a level tick,
+ * and posts one {@link BlockEvents#BLOCK_ENTITY_BATCH_TICK} per block type at the end of the tick.
+ */
+public final class BlockEntityTickBatches {
+	private static final Map<Level, Map<BlockEntityInfo, BlockEntityBatchTickKubeEvent>> BATCHES = new ConcurrentHashMap<>();
+
+	static void add(KubeBlockEntity entity) {
+		var level = entity.getLevel();
+		BATCHES.computeIfAbsent(level, l -> new Reference2ObjectLinkedOpenHashMap<>())
+			.computeIfAbsent(entity.info, i -> new BlockEntityBatchTickKubeEvent(level))
+			.add(entity);
+	}
+
+	public static void flush(Level level) {
+		var batches = BATCHES.get(level);
+
+		if (batches == null) {
+			return;
+		}
+
+		for (var event : batches.values()) {
+			event.removeUnloaded();
+
+			if (event.entities.isEmpty()) {
+				continue;
+			}
+
+			var entity = event.entities.getFirst();
+			var side = level.kjs$getScriptType();
+
+			try {
+				BlockEvents.BLOCK_ENTITY_BATCH_TICK.post(side, entity.blockKey, event);
+			} catch (Exception ex) {
+				side.console.error("Error while batch ticking KubeJS block entities '" + entity.info.blockBuilder.id + "'", ex);
+			}
+
+			for (var e : event.entities) {
+				e.cycle++;
+			}
+
+			event.clear();
+		}
+	}
+
+	public static void unload(Level level) {
+		BATCHES.remove(level);
+	}
+}
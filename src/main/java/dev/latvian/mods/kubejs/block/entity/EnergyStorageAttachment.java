@@ -9,7 +9,6 @@ import net.neoforged.neoforge.energy.EnergyStorage;
 import net.neoforged.neoforge.energy.IEnergyStorage;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -110,12 +109,14 @@ public class EnergyStorageAttachment implements BlockEntityAttachment {
 	public final Wrapped energyStorage;
 	public final int autoOutput;
 	public final Direction[] autoOutputDirections;
+	private final NeighborCapabilities<IEnergyStorage> autoOutputTargets;
 
 	public EnergyStorageAttachment(KubeBlockEntity entity, int capacity, int maxReceive, int maxExtract, int autoOutput, Direction[] autoOutputDirections) {
 		this.entity = entity;
 		this.energyStorage = new Wrapped(this, capacity, maxReceive, maxExtract);
 		this.autoOutput = autoOutput;
 		this.autoOutputDirections = autoOutputDirections;
+		this.autoOutputTargets = new NeighborCapabilities<>(Capabilities.EnergyStorage.BLOCK, entity, autoOutputDirections, energyStorage);
 	}
 
 	@Override
@@ -135,22 +136,15 @@ public class EnergyStorageAttachment implements BlockEntityAttachment {
 
 	@Override
 	public void serverTick() {
-		if (autoOutputDirections.length > 0 && autoOutput > 0) {
-			var list = new ArrayList<IEnergyStorage>(1);
+		if (autoOutputDirections.length > 0 && autoOutput > 0 && energyStorage.getEnergyStored() > 0) {
+			int size = autoOutputTargets.update();
 
-			for (var dir : autoOutputDirections) {
-				var c = Capabilities.EnergyStorage.BLOCK.getCapability(entity.getLevel(), entity.getBlockPos().relative(dir), null, null, dir.getOpposite());
-
-				if (c != null && c != energyStorage) {
-					list.add(c);
-				}
-			}
-
-			if (!list.isEmpty()) {
-				int draw = Math.min(autoOutput, energyStorage.getEnergyStored()) / list.size();
+			if (size > 0) {
+				int draw = Math.min(autoOutput, energyStorage.getEnergyStored()) / size;
 
 				if (draw > 0) {
-					for (var c : list) {
+					for (int i = 0; i < size; i++) {
+						var c = autoOutputTargets.get(i);
 						int e = energyStorage.extractEnergy(draw, true);
 
 						if (e > 0) {
@@ -1,10 +1,12 @@
 package dev.latvian.mods.kubejs.block.entity;
 
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.Tag;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.Capabilities;
 import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.templates.FluidTank;
 import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
 import org.jetbrains.annotations.Nullable;
@@ -67,6 +69,13 @@ public class FluidTankAttachment implements BlockEntityAttachment {
 		return null;
 	}
 
+	/**
+	 * @return cached fluid handlers of neighbors on <code>directions</code>, create it once and keep it for the lifetime of this attachment
+	 */
+	public NeighborCapabilities<IFluidHandler> neighbors(Direction... directions) {
+		return new NeighborCapabilities<>(Capabilities.FluidHandler.BLOCK, entity, directions, fluidTank);
+	}
+
 	@Override
 	@Nullable
 	public Tag serialize(HolderLookup.Provider registries) {
@@ -2,6 +2,7 @@ package dev.latvian.mods.kubejs.block.entity;
 
 import dev.latvian.mods.kubejs.core.InventoryKJS;
 import dev.latvian.mods.kubejs.item.ItemPredicate;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
@@ -13,6 +14,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import org.jetbrains.annotations.Nullable;
 
@@ -95,6 +97,13 @@ public class InventoryAttachment implements BlockEntityAttachment {
 		return null;
 	}
 
+	/**
+	 * @return cached item handlers of neighbors on <code>directions</code>, create it once and keep it for the lifetime of this attachment
+	 */
+	public NeighborCapabilities<IItemHandler> neighbors(Direction... directions) {
+		return new NeighborCapabilities<>(Capabilities.ItemHandler.BLOCK, blockEntity, directions, inventory);
+	}
+
 	@Override
 	public ListTag serialize(HolderLookup.Provider registries) {
 		var list = new ListTag();
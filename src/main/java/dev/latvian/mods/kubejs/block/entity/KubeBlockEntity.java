@@ -190,6 +190,14 @@ public class KubeBlockEntity extends BlockEntity {
 		return block;
 	}
 
+	BlockEntityTickKubeEvent getTickEvent() {
+		if (tickEvent == null) {
+			tickEvent = new BlockEntityTickKubeEvent(this);
+		}
+
+		return tickEvent;
+	}
+
 	private void tick() {
 		if (level == null) {
 			return;
@@ -197,19 +205,20 @@ public class KubeBlockEntity extends BlockEntity {
 
 		if (level.isClientSide ? info.clientTicking : info.serverTicking) {
 			if (tick % info.tickFrequency == info.tickOffset) {
-				var side = level.kjs$getScriptType();
-
-				try {
-					if (tickEvent == null) {
-						tickEvent = new BlockEntityTickKubeEvent(this);
+				if (info.batchTicking && BlockEvents.BLOCK_ENTITY_BATCH_TICK.hasListeners(blockKey)) {
+					// cycle is incremented after the batch is posted at the end of the level tick
+					BlockEntityTickBatches.add(this);
+				} else {
+					var side = level.kjs$getScriptType();
+
+					try {
+						BlockEvents.BLOCK_ENTITY_TICK.post(side, blockKey, getTickEvent());
+					} catch (Exception ex) {
+						side.console.error("Error while ticking KubeJS block entity '" + info.blockBuilder.id + "'", ex);
 					}
 
-					BlockEvents.BLOCK_ENTITY_TICK.post(side, blockKey, tickEvent);
-				} catch (Exception ex) {
-					side.console.error("Error while ticking KubeJS block entity '" + info.blockBuilder.id + "'", ex);
+					cycle++;
 				}
-
-				cycle++;
 			}
 
 			tick++;
@@ -0,0 +1,91 @@
+package dev.latvian.mods.kubejs.block.entity;
+
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.neoforge.capabilities.BlockCapability;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Capabilities of the neighbors of a block entity on a fixed set of sides, for attachments that push to or pull from adjacent blocks.
+ * <p>
+ * Uses one {@link BlockCapabilityCache} per side, created on first use, so neighbors are only looked up again after NeoForge invalidates the capabilities,
+ * e.g. when a neighbor is placed, removed or changes state. Available capabilities are kept in a reused array, so {@link #update()} doesn't allocate.
+ */
+public final class NeighborCapabilities<T> {
+	private final BlockCapability<T, @Nullable Direction> capability;
+	private final KubeBlockEntity entity;
+	private final Direction[] directions;
+	private final Object exclude;
+	private BlockCapabilityCache<T, @Nullable Direction>[] caches;
+	private final Object[] available;
+	private int size;
+	private boolean changed;
+
+	/**
+	 * @param exclude capability of the block entity itself, which is skipped if a neighbor exposes it
+	 */
+	public NeighborCapabilities(BlockCapability<T, @Nullable Direction> capability, KubeBlockEntity entity, Direction[] directions, @Nullable Object exclude) {
+		this.capability = capability;
+		this.entity = entity;
+		this.directions = directions;
+		this.exclude = exclude;
+		this.caches = null;
+		this.available = new Object[directions.length];
+		this.size = 0;
+		this.changed = true;
+	}
+
+	/**
+	 * Refreshes available capabilities if any neighbor changed since the last call. Only works on the server side.
+	 *
+	 * @return number of available capabilities
+	 */
+	@SuppressWarnings("unchecked")
+	public int update() {
+		if (directions.length == 0 || !(entity.getLevel() instanceof ServerLevel level)) {
+			return 0;
+		}
+
+		if (caches == null) {
+			caches = new BlockCapabilityCache[directions.length];
+
+			for (int i = 0; i < directions.length; i++) {
+				var dir = directions[i];
+				caches[i] = BlockCapabilityCache.create(capability, level, entity.getBlockPos().relative(dir), dir.getOpposite(), () -> !entity.isRemoved(), this::invalidate);
+			}
+		}
+
+		if (changed) {
+			changed = false;
+			size = 0;
+
+			for (var cache : caches) {
+				var c = cache.getCapability();
+
+				if (c != null && c != exclude) {
+					available[size++] = c;
+				}
+			}
+
+			for (int i = size; i < available.length; i++) {
+				available[i] = null;
+			}
+		}
+
+		return size;
+	}
+
+	private void invalidate() {
+		changed = true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) available[index];
+	}
+}
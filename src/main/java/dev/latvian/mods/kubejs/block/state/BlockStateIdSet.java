@@ -0,0 +1,177 @@
+package dev.latvian.mods.kubejs.block.state;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Immutable set of block states, stored as a bitset indexed by {@link Block#BLOCK_STATE_REGISTRY} id.
+ * <p>
+ * Sets are compiled from a {@link BlockStatePredicate} and become stale when tags are reloaded (see {@link #invalidateAll()})
+ * or when more block states are registered, after which the predicate compiles them again.
+ */
+public final class BlockStateIdSet {
+	private static final AtomicInteger VERSION = new AtomicInteger();
+	private static final Map<BlockStatePredicate, BlockStateIdSet> LEAF_CACHE = new ConcurrentHashMap<>();
+
+	public static void invalidateAll() {
+		VERSION.incrementAndGet();
+		LEAF_CACHE.clear();
+	}
+
+	/**
+	 * Compiled set of a leaf predicate, shared by equal predicates until it becomes stale. Composite predicates keep their own set instead.
+	 */
+	static BlockStateIdSet cached(BlockStatePredicate predicate, Supplier<BlockStateIdSet> compiler) {
+		var set = LEAF_CACHE.get(predicate);
+
+		if (set == null || !set.isValid()) {
+			set = compiler.get();
+			LEAF_CACHE.put(predicate, set);
+		}
+
+		return set;
+	}
+
+	private static BlockStateIdSet create(Consumer<BitSet> builder) {
+		int version = VERSION.get();
+		int size = Block.BLOCK_STATE_REGISTRY.size();
+		var bits = new BitSet(size);
+		builder.accept(bits);
+		return new BlockStateIdSet(version, size, bits);
+	}
+
+	private static void add(BitSet bits, BlockState state) {
+		int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+
+		if (id >= 0) {
+			bits.set(id);
+		}
+	}
+
+	public static BlockStateIdSet none() {
+		return create(bits -> {
+		});
+	}
+
+	public static BlockStateIdSet all() {
+		return create(bits -> bits.set(0, Block.BLOCK_STATE_REGISTRY.size()));
+	}
+
+	public static BlockStateIdSet ofStates(Iterable<BlockState> states) {
+		return create(bits -> {
+			for (var state : states) {
+				add(bits, state);
+			}
+		});
+	}
+
+	public static BlockStateIdSet ofBlocks(Iterable<Block> blocks) {
+		return create(bits -> {
+			for (var block : blocks) {
+				for (var state : block.getStateDefinition().getPossibleStates()) {
+					add(bits, state);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Tests every registered block state, only used for predicates that can't be composed from other sets.
+	 */
+	public static BlockStateIdSet scan(Predicate<BlockState> predicate) {
+		return create(bits -> {
+			for (var state : Block.BLOCK_STATE_REGISTRY) {
+				if (predicate.test(state)) {
+					add(bits, state);
+				}
+			}
+		});
+	}
+
+	public static BlockStateIdSet or(List<BlockStatePredicate> predicates) {
+		return create(bits -> {
+			for (var predicate : predicates) {
+				bits.or(predicate.compile().bits);
+			}
+		});
+	}
+
+	public static BlockStateIdSet and(List<BlockStatePredicate> predicates) {
+		return create(bits -> {
+			bits.set(0, Block.BLOCK_STATE_REGISTRY.size());
+
+			for (var predicate : predicates) {
+				bits.and(predicate.compile().bits);
+			}
+		});
+	}
+
+	public static BlockStateIdSet not(BlockStatePredicate predicate) {
+		return create(bits -> {
+			bits.set(0, Block.BLOCK_STATE_REGISTRY.size());
+			bits.andNot(predicate.compile().bits);
+		});
+	}
+
+	private final int version;
+	private final int size;
+	private final BitSet bits;
+
+	private BlockStateIdSet(int version, int size, BitSet bits) {
+		this.version = version;
+		this.size = size;
+		this.bits = bits;
+	}
+
+	/**
+	 * @return false if tags were reloaded or more block states were registered since this set was compiled
+	 */
+	public boolean isValid() {
+		return version == VERSION.get() && size == Block.BLOCK_STATE_REGISTRY.size();
+	}
+
+	public boolean contains(BlockState state) {
+		int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+		return id >= 0 && bits.get(id);
+	}
+
+	public int size() {
+		return bits.cardinality();
+	}
+
+	public boolean isEmpty() {
+		return bits.isEmpty();
+	}
+
+	public List<BlockState> getBlockStates() {
+		var list = new ArrayList<BlockState>(bits.cardinality());
+
+		for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+			list.add(Block.BLOCK_STATE_REGISTRY.byId(i));
+		}
+
+		return list;
+	}
+
+	public Set<Block> getBlocks() {
+		var set = new LinkedHashSet<Block>();
+
+		for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+			set.add(Block.BLOCK_STATE_REGISTRY.byId(i).getBlock());
+		}
+
+		return set;
+	}
+}
@@ -157,22 +157,20 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 		return pattern == null ? BlockStatePredicate.fromString(cx, o.toString()) : new RegexMatch(pattern);
 	}
 
+	/**
+	 * @return states matched by this predicate. Leaf predicates share it between equal predicates, composite predicates keep their own and test states against it.
+	 * Both are compiled again after tags are reloaded
+	 */
+	default BlockStateIdSet compile() {
+		return BlockStateIdSet.scan(this);
+	}
+
 	default Collection<BlockState> getBlockStates() {
-		var states = new HashSet<BlockState>();
-		for (var state : BlockWrapper.getAllBlockStates()) {
-			if (test(state)) {
-				states.add(state);
-			}
-		}
-		return states;
+		return compile().getBlockStates();
 	}
 
 	default Collection<Block> getBlocks() {
-		var blocks = new HashSet<Block>();
-		for (var state : getBlockStates()) {
-			blocks.add(state.getBlock());
-		}
-		return blocks;
+		return compile().getBlocks();
 	}
 
 	default Set<ResourceLocation> getBlockIds() {
@@ -220,6 +218,11 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return match ? AlwaysTrueTest.INSTANCE : AlwaysFalseRuleTest.INSTANCE;
 		}
 
+		@Override
+		public BlockStateIdSet compile() {
+			return BlockStateIdSet.cached(this, () -> match ? BlockStateIdSet.all() : BlockStateIdSet.none());
+		}
+
 		@Override
 		public Collection<BlockState> getBlockStates() {
 			return match ? BlockWrapper.getAllBlockStates() : List.of();
@@ -242,6 +245,11 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return Collections.singleton(block);
 		}
 
+		@Override
+		public BlockStateIdSet compile() {
+			return BlockStateIdSet.cached(this, () -> BlockStateIdSet.ofBlocks(List.of(block)));
+		}
+
 		@Override
 		public Collection<BlockState> getBlockStates() {
 			return block.getStateDefinition().getPossibleStates();
@@ -274,6 +282,11 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return Collections.singleton(state.getBlock());
 		}
 
+		@Override
+		public BlockStateIdSet compile() {
+			return BlockStateIdSet.cached(this, () -> BlockStateIdSet.ofStates(List.of(state)));
+		}
+
 		@Override
 		public Collection<BlockState> getBlockStates() {
 			return Collections.singleton(state);
@@ -310,6 +323,11 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			});
 		}
 
+		@Override
+		public BlockStateIdSet compile() {
+			return BlockStateIdSet.cached(this, () -> BlockStateIdSet.ofBlocks(getBlocks()));
+		}
+
 		@Override
 		public RuleTest asRuleTest() {
 			return new TagMatchTest(tag);
@@ -319,14 +337,14 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 	final class RegexMatch implements BlockStatePredicate {
 		public final Pattern pattern;
 		private final LinkedHashSet<Block> matchedBlocks;
+		private volatile BlockStateIdSet compiled;
 
 		public RegexMatch(Pattern p) {
 			pattern = p;
 			matchedBlocks = new LinkedHashSet<>();
-			for (var state : BlockWrapper.getAllBlockStates()) {
-				var block = state.getBlock();
-				if (!matchedBlocks.contains(block) && pattern.matcher(block.kjs$getId()).find()) {
-					matchedBlocks.add(state.getBlock());
+			for (var block : BuiltInRegistries.BLOCK) {
+				if (pattern.matcher(block.kjs$getId()).find()) {
+					matchedBlocks.add(block);
 				}
 			}
 		}
@@ -346,6 +364,18 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return matchedBlocks;
 		}
 
+		@Override
+		public BlockStateIdSet compile() {
+			var c = compiled;
+
+			if (c == null || !c.isValid()) {
+				c = BlockStateIdSet.ofBlocks(matchedBlocks);
+				compiled = c;
+			}
+
+			return c;
+		}
+
 		@Override
 		public RuleTest asRuleTest() {
 			var test = new AnyMatchRuleTest();
@@ -356,16 +386,33 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 		}
 	}
 
-	record OrMatch(List<BlockStatePredicate> list) implements BlockStatePredicate {
+	final class OrMatch implements BlockStatePredicate {
+		private final List<BlockStatePredicate> list;
+		private volatile BlockStateIdSet compiled;
+
+		public OrMatch(List<BlockStatePredicate> list) {
+			this.list = list;
+		}
+
+		public List<BlockStatePredicate> list() {
+			return list;
+		}
+
 		@Override
 		public boolean test(BlockState state) {
-			for (var predicate : list) {
-				if (predicate.test(state)) {
-					return true;
-				}
+			return compile().contains(state);
+		}
+
+		@Override
+		public BlockStateIdSet compile() {
+			var c = compiled;
+
+			if (c == null || !c.isValid()) {
+				c = BlockStateIdSet.or(list);
+				compiled = c;
 			}
 
-			return false;
+			return c;
 		}
 
 		@Override
@@ -390,17 +437,6 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return set;
 		}
 
-		@Override
-		public Collection<BlockState> getBlockStates() {
-			var set = new HashSet<BlockState>();
-
-			for (var predicate : list) {
-				set.addAll(predicate.getBlockStates());
-			}
-
-			return set;
-		}
-
 		@Override
 		public Set<ResourceLocation> getBlockIds() {
 			Set<ResourceLocation> set = new LinkedHashSet<>();
@@ -420,59 +456,51 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			}
 			return test;
 		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o == this || o instanceof OrMatch m && list.equals(m.list);
+		}
+
+		@Override
+		public int hashCode() {
+			return list.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "OrMatch[list=" + list + "]";
+		}
 	}
 
 	final class NotMatch implements BlockStatePredicate {
 		private final BlockStatePredicate predicate;
-		private final Collection<BlockState> cachedStates;
+		private volatile BlockStateIdSet compiled;
 
 		public NotMatch(BlockStatePredicate predicate) {
 			this.predicate = predicate;
-
-			cachedStates = new LinkedHashSet<>();
-
-			for (var block : BuiltInRegistries.BLOCK) {
-				for (var state : block.getStateDefinition().getPossibleStates()) {
-					if (!predicate.test(state)) {
-						cachedStates.add(state);
-					}
-				}
-			}
 		}
 
 		@Override
 		public boolean test(BlockState state) {
-			return !predicate.test(state);
+			return compile().contains(state);
 		}
 
 		@Override
-		public boolean testBlock(Block block) {
-			return !predicate.testBlock(block);
-		}
+		public BlockStateIdSet compile() {
+			var c = compiled;
 
-		@Override
-		public Collection<Block> getBlocks() {
-			Set<Block> set = new HashSet<>();
-			for (var blockState : getBlockStates()) {
-				set.add(blockState.getBlock());
+			if (c == null || !c.isValid()) {
+				c = BlockStateIdSet.not(predicate);
+				compiled = c;
 			}
-			return set;
-		}
 
-		@Override
-		public Collection<BlockState> getBlockStates() {
-			return cachedStates;
+			return c;
 		}
 
 		@Override
-		public Set<ResourceLocation> getBlockIds() {
-			var set = new HashSet<ResourceLocation>();
-
-			for (var block : getBlocks()) {
-				set.add(block.kjs$getIdLocation());
-			}
-
-			return set;
+		public boolean testBlock(Block block) {
+			return !predicate.testBlock(block);
 		}
 
 		@Override
@@ -483,36 +511,27 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 
 	final class AndMatch implements BlockStatePredicate {
 		private final List<BlockStatePredicate> list;
-		private final Collection<BlockState> cachedStates;
+		private volatile BlockStateIdSet compiled;
 
 		public AndMatch(List<BlockStatePredicate> list) {
 			this.list = list;
-			cachedStates = new LinkedHashSet<>();
-
-			for (var block : BuiltInRegistries.BLOCK) {
-				for (var state : block.getStateDefinition().getPossibleStates()) {
-					var match = true;
-					for (var predicate : list) {
-						if (!predicate.test(state)) {
-							match = false;
-							break;
-						}
-					}
-					if (match) {
-						cachedStates.add(state);
-					}
-				}
-			}
 		}
 
 		@Override
 		public boolean test(BlockState state) {
-			for (var predicate : list) {
-				if (!predicate.test(state)) {
-					return false;
-				}
+			return compile().contains(state);
+		}
+
+		@Override
+		public BlockStateIdSet compile() {
+			var c = compiled;
+
+			if (c == null || !c.isValid()) {
+				c = BlockStateIdSet.and(list);
+				compiled = c;
 			}
-			return true;
+
+			return c;
 		}
 
 		@Override
@@ -525,20 +544,6 @@ public sealed interface BlockStatePredicate extends Predicate<BlockState>, Repla
 			return true;
 		}
 
-		@Override
-		public Collection<Block> getBlocks() {
-			Set<Block> set = new HashSet<>();
-			for (var blockState : getBlockStates()) {
-				set.add(blockState.getBlock());
-			}
-			return set;
-		}
-
-		@Override
-		public Collection<BlockState> getBlockStates() {
-			return cachedStates;
-		}
-
 		@Override
 		public RuleTest asRuleTest() {
 			var test = new AllMatchRuleTest();
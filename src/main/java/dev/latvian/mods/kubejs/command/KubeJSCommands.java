@@ -5,6 +5,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -26,6 +27,7 @@ import dev.latvian.mods.kubejs.script.ScriptType;
 import dev.latvian.mods.kubejs.script.data.ExportablePackResources;
 import dev.latvian.mods.kubejs.server.BasicCommandKubeEvent;
 import dev.latvian.mods.kubejs.server.DataExport;
+import dev.latvian.mods.kubejs.util.ExportWriter;
 import dev.latvian.mods.kubejs.util.JsonUtils;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
@@ -48,9 +50,11 @@ import net.minecraft.tags.TagKey;
 import net.minecraft.world.InteractionHand;
 import net.neoforged.fml.loading.FMLLoader;
 import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -181,6 +185,25 @@ public class KubeJSCommands {
 					.executes(context -> DumpCommands.events(context.getSource()))
 				)
 			)
+			.then(Commands.literal("metrics")
+				.requires(spOrOP)
+				.executes(context -> MetricsCommands.report(context.getSource(), 10))
+				.then(Commands.argument("count", IntegerArgumentType.integer(1))
+					.executes(context -> MetricsCommands.report(context.getSource(), IntegerArgumentType.getInteger(context, "count")))
+				)
+				.then(Commands.literal("enable")
+					.executes(context -> MetricsCommands.enable(context.getSource(), 1))
+					.then(Commands.argument("sample_rate", IntegerArgumentType.integer(1))
+						.executes(context -> MetricsCommands.enable(context.getSource(), IntegerArgumentType.getInteger(context, "sample_rate")))
+					)
+				)
+				.then(Commands.literal("disable")
+					.executes(context -> MetricsCommands.disable(context.getSource()))
+				)
+				.then(Commands.literal("reset")
+					.executes(context -> MetricsCommands.reset(context.getSource()))
+				)
+			)
 			.then(Commands.literal("stages")
 				.requires(spOrOP)
 				.then(Commands.literal("add")
@@ -442,6 +465,19 @@ public class KubeJSCommands {
 			ex.printStackTrace();
 		}
 
+		FileSystem combinedZip = null;
+		Path combinedRoot = exportZip ? null : combinedPath;
+
+		if (exportZip) {
+			try {
+				combinedZip = FileSystems.newFileSystem(combinedPath, Map.of("create", true));
+				combinedRoot = combinedZip.getPath(".");
+			} catch (Exception ex) {
+				ex.printStackTrace();
+				source.sendFailure(Component.literal("Failed to create combined.zip, skipping combined export"));
+			}
+		}
+
 		for (var pack : packs) {
 			var packName = exportZip ? (pack.exportPath() + ".zip") : pack.exportPath();
 
@@ -453,15 +489,15 @@ public class KubeJSCommands {
 					Files.createDirectories(parent);
 				}
 
+				ExportWriter writer;
+
 				if (exportZip) {
 					Files.deleteIfExists(path);
 
 					try (var fs = FileSystems.newFileSystem(path, Map.of("create", true))) {
-						pack.export(fs.getPath("."));
-					}
-
-					try (var fs = FileSystems.newFileSystem(combinedPath, Map.of("create", true))) {
-						pack.export(fs.getPath("."));
+						writer = new ExportWriter(exportRoots(fs.getPath("."), combinedRoot));
+						pack.export(writer);
+						writer.finish();
 					}
 				} else {
 					if (Files.exists(path)) {
@@ -472,11 +508,12 @@ public class KubeJSCommands {
 					}
 
 					Files.createDirectories(path);
-					pack.export(path);
-					pack.export(combinedPath);
+					writer = new ExportWriter(exportRoots(path, combinedRoot));
+					pack.export(writer);
+					writer.finish();
 				}
 
-				source.sendSuccess(() -> Component.empty().append(TextIcons.yes()).append(Component.literal(packName).withStyle(ChatFormatting.BLUE)), false);
+				source.sendSuccess(() -> Component.empty().append(TextIcons.yes()).append(Component.literal(packName).withStyle(ChatFormatting.BLUE)).append(Component.literal(" - " + writer).withStyle(ChatFormatting.GRAY)), false);
 				success++;
 			} catch (IOException e) {
 				e.printStackTrace();
@@ -486,6 +523,14 @@ public class KubeJSCommands {
 			}
 		}
 
+		if (combinedZip != null) {
+			try {
+				combinedZip.close();
+			} catch (Exception ex) {
+				ex.printStackTrace();
+			}
+		}
+
 		int success1 = success;
 
 		if (source.getServer().isSingleplayer() && !source.getServer().isPublished()) {
@@ -497,6 +542,10 @@ public class KubeJSCommands {
 		return success;
 	}
 
+	private static Path[] exportRoots(Path root, @Nullable Path combinedRoot) {
+		return combinedRoot == null ? new Path[]{root} : new Path[]{root, combinedRoot};
+	}
+
 	private static <T> int listTagsFor(CommandSourceStack source, ResourceKey<Registry<T>> registry) throws CommandSyntaxException {
 		var tags = allTags(source, registry);
 
@@ -0,0 +1,63 @@
+package dev.latvian.mods.kubejs.command;
+
+import com.mojang.brigadier.Command;
+import dev.latvian.mods.kubejs.event.EventHandlerMetrics;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+public class MetricsCommands {
+	public static int enable(CommandSourceStack source, int sampleRate) {
+		EventHandlerMetrics.sampleRate = Math.max(1, sampleRate);
+
+		if (sampleRate <= 1) {
+			source.sendSuccess(() -> Component.literal("Event handler metrics enabled, timing every invocation"), true);
+		} else {
+			source.sendSuccess(() -> Component.literal("Event handler metrics enabled, timing 1 in " + sampleRate + " invocations"), true);
+		}
+
+		return Command.SINGLE_SUCCESS;
+	}
+
+	public static int disable(CommandSourceStack source) {
+		EventHandlerMetrics.sampleRate = 0;
+		source.sendSuccess(() -> Component.literal("Event handler metrics disabled"), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	public static int reset(CommandSourceStack source) {
+		EventHandlerMetrics.resetAll();
+		source.sendSuccess(() -> Component.literal("Event handler metrics reset"), true);
+		return Command.SINGLE_SUCCESS;
+	}
+
+	public static int report(CommandSourceStack source, int count) {
+		var entries = EventHandlerMetrics.collect();
+
+		if (entries.isEmpty()) {
+			source.sendSystemMessage(Component.literal(EventHandlerMetrics.isEnabled() ? "No event handlers have been invoked yet" : "Event handler metrics are disabled, enable them with /kubejs metrics enable").withStyle(ChatFormatting.GRAY));
+			return 0;
+		}
+
+		source.sendSystemMessage(Component.literal("Slowest event handlers:").withStyle(ChatFormatting.YELLOW));
+
+		for (int i = 0; i < Math.min(count, entries.size()); i++) {
+			var entry = entries.get(i);
+			var m = entry.container().metrics;
+
+			source.sendSystemMessage(Component.empty()
+				.append(Component.literal(entry.handler() + " ").withStyle(ChatFormatting.GOLD))
+				.append(Component.literal(entry.container().source + ":" + entry.container().line).withStyle(ChatFormatting.GRAY))
+				.append(Component.literal(" - %.2f ms total, %d calls, max %.3f ms".formatted(entry.estimatedTotalNanos() / 1_000_000D, m.invocations.sum(), m.maxNanos.get() / 1_000_000D)))
+			);
+
+			long exceptions = m.exceptions.sum();
+
+			if (exceptions > 0L) {
+				source.sendSystemMessage(Component.literal("  " + exceptions + " exceptions").withStyle(ChatFormatting.RED));
+			}
+		}
+
+		return entries.size();
+	}
+}
@@ -6,6 +6,7 @@ import dev.latvian.mods.kubejs.bindings.SizedIngredientWrapper;
 import dev.latvian.mods.kubejs.error.KubeRuntimeException;
 import dev.latvian.mods.kubejs.ingredient.WildcardIngredient;
 import dev.latvian.mods.kubejs.item.ItemPredicate;
+import dev.latvian.mods.kubejs.recipe.match.IngredientMatchCache;
 import dev.latvian.mods.kubejs.recipe.match.ItemMatch;
 import dev.latvian.mods.kubejs.recipe.match.Replaceable;
 import dev.latvian.mods.kubejs.util.WithCodec;
@@ -90,9 +91,11 @@ public interface IngredientKJS extends ItemPredicate, Replaceable, WithCodec, It
 		} else if (exact) {
 			var stacks = kjs$getStacks();
 			return stacks.size() == 1 && ItemStack.isSameItemSameComponents(stacks.getFirst(), item);
-		} else {
-			return test(item);
 		}
+
+		var cache = IngredientMatchCache.of(cx);
+		var result = cache == null ? null : cache.test(kjs$self(), item);
+		return result == null ? test(item) : result;
 	}
 
 	@Override
@@ -112,6 +115,13 @@ public interface IngredientKJS extends ItemPredicate, Replaceable, WithCodec, It
 			}
 		}
 
+		var cache = IngredientMatchCache.of(cx);
+		var result = cache == null ? null : cache.intersects(kjs$self(), in);
+
+		if (result != null) {
+			return result;
+		}
+
 		try {
 			for (var stack : in.getItems()) {
 				if (test(stack)) {
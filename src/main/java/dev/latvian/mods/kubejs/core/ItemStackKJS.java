@@ -6,6 +6,7 @@ import dev.latvian.mods.kubejs.bindings.ItemWrapper;
 import dev.latvian.mods.kubejs.component.DataComponentWrapper;
 import dev.latvian.mods.kubejs.component.ItemComponentFunctions;
 import dev.latvian.mods.kubejs.level.LevelBlock;
+import dev.latvian.mods.kubejs.recipe.match.IngredientMatchCache;
 import dev.latvian.mods.kubejs.recipe.match.ItemMatch;
 import dev.latvian.mods.kubejs.recipe.match.Replaceable;
 import dev.latvian.mods.kubejs.util.Cast;
@@ -292,7 +293,9 @@ public interface ItemStackKJS extends
 
 	@Override
 	default boolean matches(Context cx, Ingredient in, boolean exact) {
-		return in.test(kjs$self());
+		var cache = IngredientMatchCache.of(cx);
+		var result = cache == null ? null : cache.test(in, kjs$self());
+		return result == null ? in.test(kjs$self()) : result;
 	}
 
 	@Override
@@ -8,9 +8,9 @@ import dev.latvian.mods.kubejs.bindings.event.ServerEvents;
 import dev.latvian.mods.kubejs.core.RecipeManagerKJS;
 import dev.latvian.mods.kubejs.core.ReloadableServerResourcesKJS;
 import dev.latvian.mods.kubejs.net.KubeServerData;
-import dev.latvian.mods.kubejs.net.SyncServerDataPayload;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
 import dev.latvian.mods.kubejs.recipe.CompostableRecipesKubeEvent;
+import dev.latvian.mods.kubejs.recipe.RecipeCache;
 import dev.latvian.mods.kubejs.recipe.RecipesKubeEvent;
 import dev.latvian.mods.kubejs.recipe.special.SpecialRecipeSerializerManager;
 import dev.latvian.mods.kubejs.script.ConsoleJS;
@@ -73,8 +73,16 @@ public abstract class RecipeManagerMixin implements RecipeManagerKJS {
 
 		if (ServerEvents.RECIPES.hasListeners()) {
 			ConsoleJS.SERVER.info("Processing recipes...");
-			kjs$event = new RecipesKubeEvent(manager, resourceManager);
-			kjs$event.post(this, map);
+			var cache = RecipeCache.of(manager, resourceManager, map);
+
+			if (cache == null || !cache.load(map)) {
+				kjs$event = new RecipesKubeEvent(manager, resourceManager);
+				kjs$event.post(this, map);
+
+				if (cache != null) {
+					cache.save(map);
+				}
+			}
 		}
 	}
 
@@ -108,7 +116,7 @@ public abstract class RecipeManagerMixin implements RecipeManagerKJS {
 
 		kjs$event = null;
 
-		kjs$getResources().kjs$getServerScriptManager().serverData = new SyncServerDataPayload(KubeServerData.collect());
+		kjs$getResources().kjs$getServerScriptManager().serverData = KubeServerData.collect();
 	}
 
 	@Override
@@ -15,7 +15,7 @@ public abstract class UtilMixin {
 		KubeJSBackgroundThread.running = false;
 
 		for (var value : ScriptType.values()) {
-			value.console.flush(true);
+			value.console.closeLog();
 		}
 	}
 }
@@ -13,7 +13,9 @@ import dev.latvian.mods.rhino.type.TypeInfo;
 import dev.latvian.mods.rhino.util.HideFromJS;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -32,6 +34,7 @@ public class EventHandler extends BaseFunction {
 	public transient boolean targetRequired;
 	protected EventHandlerContainer[] eventContainers;
 	public transient EventExceptionHandler exceptionHandler;
+	private volatile DispatchTable dispatchTable;
 
 	EventHandler(EventGroup g, String n, ScriptTypePredicate st, Supplier<Class<? extends KubeEvent>> e) {
 		this.group = g;
@@ -43,6 +46,24 @@ public class EventHandler extends BaseFunction {
 		this.targetRequired = false;
 		this.eventContainers = null;
 		this.exceptionHandler = null;
+		this.dispatchTable = null;
+	}
+
+	/**
+	 * Listeners frozen into flat arrays, so posting an event doesn't have to merge script types or look up targets more than once
+	 */
+	protected record DispatchTable(EventHandlerContainer[][] common, @Nullable Map<Object, EventHandlerContainer[][]> targeted) {
+		public EventHandlerContainer[] get(ScriptType type, @Nullable Object extraId) {
+			if (extraId != null && targeted != null) {
+				var containers = targeted.get(extraId);
+
+				if (containers != null) {
+					return containers[type.ordinal()];
+				}
+			}
+
+			return common[type.ordinal()];
+		}
 	}
 
 	/**
@@ -94,7 +115,7 @@ public class EventHandler extends BaseFunction {
 	}
 
 	@HideFromJS
-	public void clear(ScriptType type) {
+	public synchronized void clear(ScriptType type) {
 		if (eventContainers != null) {
 			eventContainers[type.ordinal()] = null;
 
@@ -102,6 +123,50 @@ public class EventHandler extends BaseFunction {
 				eventContainers = null;
 			}
 		}
+
+		dispatchTable = null;
+	}
+
+	/**
+	 * Removes listeners of given script type, used to unload a single script pack
+	 */
+	@HideFromJS
+	public synchronized void removeListeners(ScriptType type, Predicate<EventHandlerContainer> predicate) {
+		if (eventContainers != null && eventContainers[type.ordinal()] != null) {
+			eventContainers[type.ordinal()] = EventHandlerContainer.removeIf(eventContainers[type.ordinal()], predicate);
+
+			if (EventHandlerContainer.isEmpty(eventContainers)) {
+				eventContainers = null;
+			}
+		}
+
+		dispatchTable = null;
+	}
+
+	/**
+	 * Builds the dispatch table used by {@link #post(ScriptTypeHolder, KubeEvent)}. Called once scripts are done loading,
+	 * any listener registered or cleared afterwards drops the table and it is rebuilt on next post.
+	 * <p>
+	 * Listeners are changed and the table is built while holding the lock of this handler, so a table built from an older set of listeners is never published.
+	 */
+	@HideFromJS
+	public synchronized void freeze() {
+		dispatchTable = createDispatchTable();
+	}
+
+	private synchronized DispatchTable getDispatchTable() {
+		var table = dispatchTable;
+
+		if (table == null) {
+			table = createDispatchTable();
+			dispatchTable = table;
+		}
+
+		return table;
+	}
+
+	protected DispatchTable createDispatchTable() {
+		return new DispatchTable(EventHandlerContainer.merge(eventContainers, null), null);
 	}
 
 	public boolean hasListeners() {
@@ -139,13 +204,17 @@ public class EventHandler extends BaseFunction {
 		var line = new int[1];
 		var source = cx == null ? "java" : Context.getSourcePositionFromStack(cx, line);
 
-		var map = createMap(extraId);
-		var index = type.ordinal();
+		synchronized (this) {
+			var map = createMap(extraId);
+			var index = type.ordinal();
 
-		if (map[index] == null) {
-			map[index] = new EventHandlerContainer(extraId, handler, source, line[0]);
-		} else {
-			map[index].add(extraId, handler, source, line[0]);
+			if (map[index] == null) {
+				map[index] = new EventHandlerContainer(extraId, handler, source, line[0]);
+			} else {
+				map[index].add(extraId, handler, source, line[0]);
+			}
+
+			dispatchTable = null;
 		}
 	}
 
@@ -201,41 +270,18 @@ public class EventHandler extends BaseFunction {
 			throw new IllegalArgumentException("Event handler '" + this + "' doesn't support extra id " + extraId + "!");
 		}
 
-		var eventResult = EventResult.PASS;
-
-		try {
-			var extraContainers = this instanceof TargetedEventHandler<?> h ? (h.extraEventContainers == null ? null : h.extraEventContainers.get(extraId)) : null;
-
-			if (extraContainers != null) {
-				var handler = extraContainers[scriptType.ordinal()];
+		var table = dispatchTable;
 
-				if (handler != null) {
-					handler.handle(scriptType.console, this, event);
-				}
-
-				if (!scriptType.isStartup()) {
-					handler = extraContainers[ScriptType.STARTUP.ordinal()];
-
-					if (handler != null) {
-						handler.handle(scriptType.console, this, event);
-					}
-				}
-			}
-
-			if (eventContainers != null) {
-				var handler = eventContainers[scriptType.ordinal()];
-
-				if (handler != null) {
-					handler.handle(scriptType.console, this, event);
-				}
+		if (table == null) {
+			table = getDispatchTable();
+		}
 
-				if (!scriptType.isStartup()) {
-					handler = eventContainers[ScriptType.STARTUP.ordinal()];
+		var containers = table.get(scriptType, extraId);
+		var eventResult = EventResult.PASS;
 
-					if (handler != null) {
-						handler.handle(scriptType.console, this, event);
-					}
-				}
+		try {
+			for (var container : containers) {
+				container.handleSelf(scriptType.console, this, event);
 			}
 		} catch (EventExit exit) {
 			eventResult = exit.result;
@@ -274,13 +320,10 @@ public class EventHandler extends BaseFunction {
 		return null;
 	}
 
-	public void forEachListener(ScriptType type, Consumer<EventHandlerContainer> callback) {
+	public synchronized void forEachListener(ScriptType type, Consumer<EventHandlerContainer> callback) {
 		if (eventContainers != null) {
-			var c = eventContainers[type.ordinal()];
-
-			while (c != null) {
+			for (var c = eventContainers[type.ordinal()]; c != null; c = c.child) {
 				callback.accept(c);
-				c = c.child;
 			}
 		}
 	}
@@ -2,10 +2,17 @@ package dev.latvian.mods.kubejs.event;
 
 import dev.latvian.mods.kubejs.DevProperties;
 import dev.latvian.mods.kubejs.script.ConsoleJS;
+import dev.latvian.mods.kubejs.script.ScriptType;
 import dev.latvian.mods.rhino.WrappedException;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
 public class EventHandlerContainer {
+	public static final EventHandlerContainer[] EMPTY_ARRAY = new EventHandlerContainer[0];
+
 	public static boolean isEmpty(@Nullable EventHandlerContainer[] array) {
 		if (array == null) {
 			return true;
@@ -20,10 +27,76 @@ public class EventHandlerContainer {
 		return true;
 	}
 
+	/**
+	 * Unlinks containers matching <code>predicate</code> from the chain starting at <code>head</code>
+	 *
+	 * @return new head of the chain, or null if nothing is left
+	 */
+	@Nullable
+	public static EventHandlerContainer removeIf(@Nullable EventHandlerContainer head, Predicate<EventHandlerContainer> predicate) {
+		EventHandlerContainer first = null;
+		EventHandlerContainer last = null;
+
+		for (var itr = head; itr != null; ) {
+			var next = itr.child;
+			itr.child = null;
+
+			if (!predicate.test(itr)) {
+				if (last == null) {
+					first = itr;
+				} else {
+					last.child = itr;
+				}
+
+				last = itr;
+			}
+
+			itr = next;
+		}
+
+		return first;
+	}
+
+	/**
+	 * Flattens listeners into per-script-type arrays in the order they are called in.
+	 * Each non-startup script type is followed by {@link ScriptType#STARTUP} listeners, and <code>first</code> is called before <code>second</code>.
+	 */
+	public static EventHandlerContainer[][] merge(@Nullable EventHandlerContainer[] first, @Nullable EventHandlerContainer[] second) {
+		var result = new EventHandlerContainer[ScriptType.VALUES.length][];
+		var list = new ArrayList<EventHandlerContainer>();
+
+		for (var type : ScriptType.VALUES) {
+			list.clear();
+			collect(list, first, type);
+			collect(list, second, type);
+			result[type.ordinal()] = list.isEmpty() ? EMPTY_ARRAY : list.toArray(EMPTY_ARRAY);
+		}
+
+		return result;
+	}
+
+	private static void collect(List<EventHandlerContainer> list, @Nullable EventHandlerContainer[] containers, ScriptType type) {
+		if (containers == null) {
+			return;
+		}
+
+		for (var itr = containers[type.ordinal()]; itr != null; itr = itr.child) {
+			list.add(itr);
+		}
+
+		if (!type.isStartup()) {
+			for (var itr = containers[ScriptType.STARTUP.ordinal()]; itr != null; itr = itr.child) {
+				list.add(itr);
+			}
+		}
+	}
+
 	public final Object target;
 	public final IEventHandler handler;
 	public final String source;
 	public final int line;
+	public final EventHandlerMetrics metrics;
+
 	EventHandlerContainer child;
 
 	public EventHandlerContainer(Object target, IEventHandler handler, String source, int line) {
@@ -31,49 +104,78 @@ public class EventHandlerContainer {
 		this.handler = handler;
 		this.source = source;
 		this.line = line;
+		this.metrics = new EventHandlerMetrics();
 	}
 
+	/**
+	 * Calls this container and the rest of its chain. {@link EventHandler} posts through flattened arrays and calls {@link #handleSelf} instead.
+	 *
+	 * @return always {@link EventResult#PASS}, results are passed with {@link EventExit}
+	 */
 	public EventResult handle(ConsoleJS console, EventHandler handler, KubeEvent event) throws EventExit {
-		var itr = this;
+		handleSelf(console, handler, event);
+
+		for (var itr = child; itr != null; itr = itr.child) {
+			itr.handleSelf(console, handler, event);
+		}
+
+		return EventResult.PASS;
+	}
+
+	void handleSelf(ConsoleJS console, EventHandler handler, KubeEvent event) throws EventExit {
+		int rate = EventHandlerMetrics.sampleRate;
+
+		if (rate <= 0) {
+			invoke(console, handler, event);
+		} else if (metrics.invoked(rate)) {
+			long start = System.nanoTime();
 
-		do {
 			try {
-				itr.handler.onEvent(event);
-			} catch (EventExit exit) {
+				invoke(console, handler, event);
+			} finally {
+				metrics.record(System.nanoTime() - start);
+			}
+		} else {
+			invoke(console, handler, event);
+		}
+	}
+
+	private void invoke(ConsoleJS console, EventHandler handler, KubeEvent event) throws EventExit {
+		try {
+			this.handler.onEvent(event);
+		} catch (EventExit exit) {
+			if (handler.getResult() == null) {
+				console.error("Error in '" + this + "': Event returned result when it's not cancellable");
+			} else {
+				throw exit;
+			}
+		} catch (Throwable ex) {
+			var throwable = ex;
+
+			while (throwable instanceof WrappedException e) {
+				throwable = e.getWrappedException();
+			}
+
+			if (throwable instanceof EventExit exit) {
 				if (handler.getResult() == null) {
 					console.error("Error in '" + this + "': Event returned result when it's not cancellable");
 				} else {
 					throw exit;
 				}
-			} catch (Throwable ex) {
-				var throwable = ex;
-
-				while (throwable instanceof WrappedException e) {
-					throwable = e.getWrappedException();
-				}
+			}
 
-				if (throwable instanceof EventExit exit) {
-					if (handler.getResult() == null) {
-						console.error("Error in '" + this + "': Event returned result when it's not cancellable");
-					} else {
-						throw exit;
-					}
-				}
+			if (EventHandlerMetrics.isEnabled()) {
+				metrics.exceptions.increment();
+			}
 
-				if (handler.exceptionHandler == null || (throwable = handler.exceptionHandler.handle(event, itr, throwable)) != null) {
-					console.error("Error in '" + handler + "'", throwable);
+			if (handler.exceptionHandler == null || (throwable = handler.exceptionHandler.handle(event, this, throwable)) != null) {
+				console.error("Error in '" + handler + "'", throwable);
 
-					if (DevProperties.get().logEventErrorStackTrace) {
-						throwable.printStackTrace();
-					}
+				if (DevProperties.get().logEventErrorStackTrace) {
+					throwable.printStackTrace();
 				}
 			}
-
-			itr = itr.child;
 		}
-		while (itr != null);
-
-		return EventResult.PASS;
 	}
 
 	public void add(Object extraId, IEventHandler handler, String source, int line) {
@@ -0,0 +1,134 @@
+package dev.latvian.mods.kubejs.event;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.latvian.mods.kubejs.script.ScriptType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation and timing counters of a single {@link EventHandlerContainer}.
+ * <p>
+ * Disabled by default. When {@link #sampleRate} is above 0, every invocation and exception is counted,
+ * but only 1 in <code>sampleRate</code> invocations is timed, totals are extrapolated from the timed ones.
+ */
+public final class EventHandlerMetrics {
+	public static volatile int sampleRate = 0;
+
+	public record Entry(EventHandler handler, ScriptType scriptType, EventHandlerContainer container) {
+		public long estimatedTotalNanos() {
+			var m = container.metrics;
+			long sampled = m.sampled.sum();
+			return sampled == 0L ? 0L : m.totalNanos.sum() * m.invocations.sum() / sampled;
+		}
+
+		public JsonObject toJson() {
+			var m = container.metrics;
+			long invocations = m.invocations.sum();
+			long sampled = m.sampled.sum();
+
+			var json = new JsonObject();
+			json.addProperty("event", handler.toString());
+			json.addProperty("script_type", scriptType.name);
+			json.addProperty("source", container.source);
+			json.addProperty("line", container.line);
+
+			if (container.target != null) {
+				json.addProperty("target", String.valueOf(container.target));
+			}
+
+			json.addProperty("invocations", invocations);
+			json.addProperty("sampled", sampled);
+			json.addProperty("total_ns", estimatedTotalNanos());
+			json.addProperty("average_ns", sampled == 0L ? 0L : m.totalNanos.sum() / sampled);
+			json.addProperty("max_ns", m.maxNanos.get());
+			json.addProperty("exceptions", m.exceptions.sum());
+			return json;
+		}
+	}
+
+	public static boolean isEnabled() {
+		return sampleRate > 0;
+	}
+
+	/**
+	 * @return all listeners that have been invoked since the last reset, slowest first
+	 */
+	public static List<Entry> collect() {
+		var list = new ArrayList<Entry>();
+
+		for (var group : EventGroups.ALL.get().map().values()) {
+			for (var handler : group.getHandlers().values()) {
+				for (var type : ScriptType.VALUES) {
+					handler.forEachListener(type, c -> {
+						if (c.metrics.invocations.sum() > 0L) {
+							list.add(new Entry(handler, type, c));
+						}
+					});
+				}
+			}
+		}
+
+		list.sort(Comparator.comparingLong(Entry::estimatedTotalNanos).reversed());
+		return list;
+	}
+
+	public static JsonObject toJson() {
+		var json = new JsonObject();
+		json.addProperty("sample_rate", sampleRate);
+
+		var array = new JsonArray();
+
+		for (var entry : collect()) {
+			array.add(entry.toJson());
+		}
+
+		json.add("handlers", array);
+		return json;
+	}
+
+	public static void resetAll() {
+		for (var group : EventGroups.ALL.get().map().values()) {
+			for (var handler : group.getHandlers().values()) {
+				for (var type : ScriptType.VALUES) {
+					handler.forEachListener(type, c -> c.metrics.reset());
+				}
+			}
+		}
+	}
+
+	public final LongAdder invocations = new LongAdder();
+	public final LongAdder sampled = new LongAdder();
+	public final LongAdder totalNanos = new LongAdder();
+	public final AtomicLong maxNanos = new AtomicLong();
+	public final LongAdder exceptions = new LongAdder();
+
+	/**
+	 * Counts an invocation
+	 *
+	 * @return true if this invocation should be timed
+	 */
+	boolean invoked(int rate) {
+		invocations.increment();
+		return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+	}
+
+	void record(long nanos) {
+		sampled.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	public void reset() {
+		invocations.reset();
+		sampled.reset();
+		totalNanos.reset();
+		maxNanos.set(0L);
+		exceptions.reset();
+	}
+}
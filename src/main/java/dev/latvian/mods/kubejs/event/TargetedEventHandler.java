@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class TargetedEventHandler<E> extends EventHandler {
@@ -80,7 +81,7 @@ public class TargetedEventHandler<E> extends EventHandler {
 
 	@Override
 	@HideFromJS
-	public void clear(ScriptType type) {
+	public synchronized void clear(ScriptType type) {
 		super.clear(type);
 
 		if (extraEventContainers != null) {
@@ -101,6 +102,48 @@ public class TargetedEventHandler<E> extends EventHandler {
 		}
 	}
 
+	@Override
+	@HideFromJS
+	public synchronized void removeListeners(ScriptType type, Predicate<EventHandlerContainer> predicate) {
+		super.removeListeners(type, predicate);
+
+		if (extraEventContainers != null) {
+			var entries = extraEventContainers.entrySet().iterator();
+
+			while (entries.hasNext()) {
+				var entry = entries.next();
+				var containers = entry.getValue();
+				containers[type.ordinal()] = EventHandlerContainer.removeIf(containers[type.ordinal()], predicate);
+
+				if (EventHandlerContainer.isEmpty(entry.getValue())) {
+					entries.remove();
+				}
+			}
+
+			if (extraEventContainers.isEmpty()) {
+				extraEventContainers = null;
+			}
+		}
+	}
+
+	@Override
+	protected DispatchTable createDispatchTable() {
+		var common = EventHandlerContainer.merge(eventContainers, null);
+
+		if (extraEventContainers == null) {
+			return new DispatchTable(common, null);
+		}
+
+		Map<Object, EventHandlerContainer[][]> targeted = target.identity ? new Reference2ObjectOpenHashMap<>(extraEventContainers.size()) : new HashMap<>(extraEventContainers.size());
+
+		for (var entry : extraEventContainers.entrySet()) {
+			// Targeted listeners are called before untargeted ones
+			targeted.put(entry.getKey(), EventHandlerContainer.merge(entry.getValue(), eventContainers));
+		}
+
+		return new DispatchTable(common, targeted);
+	}
+
 	@Override
 	protected EventHandlerContainer[] createMap(@Nullable Object extraId) {
 		if (extraId == null) {
@@ -123,16 +166,13 @@ public class TargetedEventHandler<E> extends EventHandler {
 	}
 
 	@Override
-	public void forEachListener(ScriptType type, Consumer<EventHandlerContainer> callback) {
+	public synchronized void forEachListener(ScriptType type, Consumer<EventHandlerContainer> callback) {
 		super.forEachListener(type, callback);
 
 		if (extraEventContainers != null) {
 			for (var entry : extraEventContainers.entrySet()) {
-				var c = entry.getValue()[type.ordinal()];
-
-				while (c != null) {
+				for (var c = entry.getValue()[type.ordinal()]; c != null; c = c.child) {
 					callback.accept(c);
-					c = c.child;
 				}
 			}
 		}
@@ -48,7 +48,7 @@ public interface FluidWrapper {
 		} else if (o instanceof SizedFluidIngredient s) {
 			return s.getFluids()[0];
 		} else {
-			return ofString(registries.nbt(), o.toString());
+			return registries.fluidStackParseCache().get(o.toString(), s -> ofString(registries.nbt(), s)).copy();
 		}
 	}
 
@@ -69,7 +69,8 @@ public interface FluidWrapper {
 		} else if (o instanceof SizedFluidIngredient s) {
 			return s.ingredient();
 		} else {
-			return ingredientOfString(registries.nbt(), o.toString());
+			var s = o.toString();
+			return s.indexOf('#') >= 0 ? ingredientOfString(registries.nbt(), s) : registries.fluidIngredientParseCache().get(s, k -> ingredientOfString(registries.nbt(), k));
 		}
 	}
 
@@ -90,7 +91,8 @@ public interface FluidWrapper {
 		} else if (o instanceof FluidIngredient in) {
 			return new SizedFluidIngredient(in, FluidType.BUCKET_VOLUME);
 		} else {
-			return sizedIngredientOfString(registries.nbt(), o.toString());
+			var s = o.toString();
+			return s.indexOf('#') >= 0 ? sizedIngredientOfString(registries.nbt(), s) : registries.sizedFluidIngredientParseCache().get(s, k -> sizedIngredientOfString(registries.nbt(), k));
 		}
 	}
 
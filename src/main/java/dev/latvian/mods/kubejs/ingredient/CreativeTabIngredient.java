@@ -12,6 +12,8 @@ import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.common.crafting.IngredientType;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.stream.Stream;
+
 public record CreativeTabIngredient(CreativeModeTab tab) implements KubeJSIngredient {
 	public static final MapCodec<CreativeTabIngredient> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
 		BuiltInRegistries.CREATIVE_MODE_TAB.byNameCodec().fieldOf("tab").forGetter(CreativeTabIngredient::tab)
@@ -28,4 +30,17 @@ public record CreativeTabIngredient(CreativeModeTab tab) implements KubeJSIngred
 	public boolean test(@Nullable ItemStack stack) {
 		return stack != null && tab.contains(stack);
 	}
+
+	@Override
+	public boolean testUncached(ItemStack stack) {
+		return tab.contains(stack);
+	}
+
+	/**
+	 * The item set is only used to list items, it is rebuilt whenever the tab rebuilds its contents.
+	 */
+	@Override
+	public Stream<ItemStack> getItems() {
+		return IngredientItemSet.of(this, tab.getDisplayItems()).getItems();
+	}
 }
@@ -0,0 +1,124 @@
+package dev.latvian.mods.kubejs.ingredient;
+
+import dev.latvian.mods.kubejs.bindings.ItemWrapper;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Items matched by a {@link KubeJSIngredient}, resolved once and stored as a bitset indexed by item registry id.
+ * Cleared with other KubeJS caches on script and tag reload, and when more than {@link #MAX_CACHED} ingredients are cached,
+ * so scripts creating ingredients at runtime can't grow it without bound. Ingredients are keyed by value, e.g. regex ingredients by pattern string and flags.
+ * <p>
+ * Sets created with {@link #ofItems(Iterable)} aren't cached here, they're used by {@link dev.latvian.mods.kubejs.recipe.match.IngredientMatchCache} for vanilla ingredients.
+ */
+public final class IngredientItemSet {
+	public static final int MAX_CACHED = 1024;
+
+	private static final Map<KubeJSIngredient, IngredientItemSet> CACHE = new ConcurrentHashMap<>();
+
+	public static IngredientItemSet of(KubeJSIngredient ingredient) {
+		return of(ingredient, null);
+	}
+
+	/**
+	 * @param version rebuilds the set when it changes, compared by identity
+	 */
+	public static IngredientItemSet of(KubeJSIngredient ingredient, @Nullable Object version) {
+		var set = CACHE.get(ingredient);
+
+		if (set == null || set.version != version) {
+			set = new IngredientItemSet(ingredient, version);
+
+			if (CACHE.size() >= MAX_CACHED) {
+				CACHE.clear();
+			}
+
+			CACHE.put(ingredient, set);
+		}
+
+		return set;
+	}
+
+	public static IngredientItemSet ofItems(Iterable<Item> items) {
+		var bits = new BitSet(BuiltInRegistries.ITEM.size());
+
+		for (var item : items) {
+			int id = BuiltInRegistries.ITEM.getId(item);
+
+			if (id >= 0) {
+				bits.set(id);
+			}
+		}
+
+		return new IngredientItemSet(null, bits, null);
+	}
+
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	private final Object version;
+	private final BitSet items;
+	private volatile List<ItemStack> stacks;
+
+	private IngredientItemSet(KubeJSIngredient ingredient, @Nullable Object version) {
+		this.version = version;
+		this.items = new BitSet(BuiltInRegistries.ITEM.size());
+		this.stacks = new ArrayList<>();
+
+		for (var stack : ItemWrapper.getList()) {
+			if (ingredient.testUncached(stack)) {
+				items.set(BuiltInRegistries.ITEM.getId(stack.getItem()));
+				stacks.add(stack);
+			}
+		}
+	}
+
+	private IngredientItemSet(@Nullable Object version, BitSet items, @Nullable List<ItemStack> stacks) {
+		this.version = version;
+		this.items = items;
+		this.stacks = stacks;
+	}
+
+	public boolean contains(Item item) {
+		int id = BuiltInRegistries.ITEM.getId(item);
+		return id >= 0 && items.get(id);
+	}
+
+	/**
+	 * @return true if both sets contain at least one common item
+	 */
+	public boolean intersects(IngredientItemSet other) {
+		return items.intersects(other.items);
+	}
+
+	public Stream<ItemStack> getItems() {
+		var s = stacks;
+
+		if (s == null) {
+			var list = new ArrayList<ItemStack>(items.cardinality());
+
+			for (int i = items.nextSetBit(0); i >= 0; i = items.nextSetBit(i + 1)) {
+				list.add(BuiltInRegistries.ITEM.byId(i).getDefaultInstance());
+			}
+
+			s = List.copyOf(list);
+			stacks = s;
+		}
+
+		return s.stream();
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+}
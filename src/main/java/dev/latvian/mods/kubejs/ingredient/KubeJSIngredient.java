@@ -12,6 +12,13 @@ public interface KubeJSIngredient extends ICustomIngredient, Predicate<ItemStack
 	@Override
 	boolean test(ItemStack stack);
 
+	/**
+	 * Tests the stack without going through {@link IngredientItemSet}, used to build it
+	 */
+	default boolean testUncached(ItemStack stack) {
+		return test(stack);
+	}
+
 	@Override
 	default Stream<ItemStack> getItems() {
 		return ItemWrapper.getList().stream().filter(this);
@@ -10,6 +10,8 @@ import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.common.crafting.IngredientType;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.stream.Stream;
+
 public record NamespaceIngredient(String namespace) implements KubeJSIngredient {
 	public static final MapCodec<NamespaceIngredient> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
 		Codec.STRING.fieldOf("namespace").forGetter(NamespaceIngredient::namespace)
@@ -24,6 +26,16 @@ public record NamespaceIngredient(String namespace) implements KubeJSIngredient
 
 	@Override
 	public boolean test(@Nullable ItemStack stack) {
-		return stack != null && stack.kjs$getMod().equals(namespace);
+		return stack != null && IngredientItemSet.of(this).contains(stack.getItem());
+	}
+
+	@Override
+	public boolean testUncached(ItemStack stack) {
+		return stack.kjs$getMod().equals(namespace);
+	}
+
+	@Override
+	public Stream<ItemStack> getItems() {
+		return IngredientItemSet.of(this).getItems();
 	}
 }
@@ -10,6 +10,7 @@ import net.neoforged.neoforge.common.crafting.IngredientType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 public record RegExIngredient(Pattern pattern, String patternString) implements KubeJSIngredient {
 	public static final MapCodec<RegExIngredient> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
@@ -29,7 +30,17 @@ public record RegExIngredient(Pattern pattern, String patternString) implements
 
 	@Override
 	public boolean test(@Nullable ItemStack stack) {
-		return stack != null && pattern.matcher(stack.kjs$getId()).find();
+		return stack != null && IngredientItemSet.of(this).contains(stack.getItem());
+	}
+
+	@Override
+	public boolean testUncached(ItemStack stack) {
+		return pattern.matcher(stack.kjs$getId()).find();
+	}
+
+	@Override
+	public Stream<ItemStack> getItems() {
+		return IngredientItemSet.of(this).getItems();
 	}
 
 	@Override
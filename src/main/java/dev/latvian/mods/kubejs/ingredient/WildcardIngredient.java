@@ -7,6 +7,8 @@ import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.common.crafting.IngredientType;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.stream.Stream;
+
 public class WildcardIngredient implements KubeJSIngredient {
 	public static WildcardIngredient INSTANCE = new WildcardIngredient();
 
@@ -25,4 +27,9 @@ public class WildcardIngredient implements KubeJSIngredient {
 	public boolean test(@Nullable ItemStack stack) {
 		return stack != null && !stack.isEmpty();
 	}
+
+	@Override
+	public Stream<ItemStack> getItems() {
+		return IngredientItemSet.of(this).getItems();
+	}
 }
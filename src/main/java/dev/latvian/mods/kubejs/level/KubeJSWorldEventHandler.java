@@ -2,8 +2,10 @@ package dev.latvian.mods.kubejs.level;
 
 import dev.latvian.mods.kubejs.KubeJS;
 import dev.latvian.mods.kubejs.bindings.event.LevelEvents;
+import dev.latvian.mods.kubejs.block.entity.BlockEntityTickBatches;
 import dev.latvian.mods.kubejs.script.ScriptType;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.level.ExplosionEvent;
@@ -21,6 +23,10 @@ public class KubeJSWorldEventHandler {
 
 	@SubscribeEvent
 	public static void serverLevelUnload(LevelEvent.Unload event) {
+		if (event.getLevel() instanceof Level level) {
+			BlockEntityTickBatches.unload(level);
+		}
+
 		if (event.getLevel() instanceof ServerLevel level && LevelEvents.UNLOADED.hasListeners(level.dimension())) {
 			LevelEvents.UNLOADED.post(new SimpleLevelKubeEvent(level), level.dimension());
 		}
@@ -28,6 +34,8 @@ public class KubeJSWorldEventHandler {
 
 	@SubscribeEvent
 	public static void serverTickEvent(LevelTickEvent.Post event) {
+		BlockEntityTickBatches.flush(event.getLevel());
+
 		if (event.getLevel() instanceof ServerLevel level && LevelEvents.TICK.hasListeners(level.dimension())) {
 			LevelEvents.TICK.post(ScriptType.SERVER, level.dimension(), new SimpleLevelKubeEvent(level));
 		}
@@ -19,6 +19,7 @@ public interface KubeJSNet {
 	CustomPacketPayload.Type<AddStagePayload> ADD_STAGE = type("add_stage");
 	CustomPacketPayload.Type<RemoveStagePayload> REMOVE_STAGE = type("remove_stage");
 	CustomPacketPayload.Type<SyncStagesPayload> SYNC_STAGES = type("sync_stages");
+	CustomPacketPayload.Type<StageChangesPayload> STAGE_CHANGES = type("stage_changes");
 	CustomPacketPayload.Type<FirstClickPayload> FIRST_CLICK = type("first_click");
 	CustomPacketPayload.Type<NotificationPayload> NOTIFICATION = type("toast");
 	CustomPacketPayload.Type<ReloadStartupScriptsPayload> RELOAD_STARTUP_SCRIPTS = type("reload_startup_scripts");
@@ -44,6 +45,7 @@ public interface KubeJSNet {
 		reg.playToClient(ADD_STAGE, AddStagePayload.STREAM_CODEC, AddStagePayload::handle);
 		reg.playToClient(REMOVE_STAGE, RemoveStagePayload.STREAM_CODEC, RemoveStagePayload::handle);
 		reg.playToClient(SYNC_STAGES, SyncStagesPayload.STREAM_CODEC, SyncStagesPayload::handle);
+		reg.playToClient(STAGE_CHANGES, StageChangesPayload.STREAM_CODEC, StageChangesPayload::handle);
 		reg.playToServer(FIRST_CLICK, FirstClickPayload.STREAM_CODEC, FirstClickPayload::handle);
 		reg.playToServer(NOTIFICATION, NotificationPayload.STREAM_CODEC, NotificationPayload::handle);
 		reg.playToClient(RELOAD_STARTUP_SCRIPTS, ReloadStartupScriptsPayload.STREAM_CODEC, ReloadStartupScriptsPayload::handle);
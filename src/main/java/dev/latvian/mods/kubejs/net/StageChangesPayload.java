@@ -0,0 +1,50 @@
+package dev.latvian.mods.kubejs.net;
+
+import dev.latvian.mods.kubejs.KubeJS;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.List;
+import java.util.UUID;
+
+public record StageChangesPayload(UUID player, List<String> added, List<String> removed) implements CustomPacketPayload {
+	public static final StreamCodec<ByteBuf, StageChangesPayload> STREAM_CODEC = StreamCodec.composite(
+		UUIDUtil.STREAM_CODEC, StageChangesPayload::player,
+		ByteBufCodecs.STRING_UTF8.apply(ByteBufCodecs.list()), StageChangesPayload::added,
+		ByteBufCodecs.STRING_UTF8.apply(ByteBufCodecs.list()), StageChangesPayload::removed,
+		StageChangesPayload::new
+	);
+
+	@Override
+	public Type<?> type() {
+		return KubeJSNet.STAGE_CHANGES;
+	}
+
+	public void handle(IPayloadContext ctx) {
+		var p0 = KubeJS.PROXY.getClientPlayer();
+
+		if (p0 == null) {
+			return;
+		}
+
+		ctx.enqueueWork(() -> {
+			var p = player.equals(p0.getUUID()) ? p0 : p0.level().getPlayerByUUID(player);
+
+			if (p != null) {
+				var stages = p.kjs$getStages();
+
+				for (var stage : removed) {
+					stages.remove(stage);
+				}
+
+				for (var stage : added) {
+					stages.add(stage);
+				}
+			}
+		});
+	}
+}
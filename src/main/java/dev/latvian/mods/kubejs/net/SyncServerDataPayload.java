@@ -1,13 +1,74 @@
 package dev.latvian.mods.kubejs.net;
 
 import dev.latvian.mods.kubejs.KubeJS;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.connection.ConnectionType;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
-public record SyncServerDataPayload(KubeServerData data) implements CustomPacketPayload {
-	public static final StreamCodec<RegistryFriendlyByteBuf, SyncServerDataPayload> STREAM_CODEC = KubeServerData.STREAM_CODEC.map(SyncServerDataPayload::new, SyncServerDataPayload::data);
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * {@link KubeServerData} encoded and compressed once per reload, then sent as-is to every player.
+ * The hash identifies the content, so players that already received the same data can be skipped.
+ */
+public record SyncServerDataPayload(long hash, byte[] data) implements CustomPacketPayload {
+	public static final StreamCodec<FriendlyByteBuf, SyncServerDataPayload> STREAM_CODEC = StreamCodec.of(
+		(buf, payload) -> {
+			buf.writeLong(payload.hash);
+			buf.writeByteArray(payload.data);
+		},
+		buf -> new SyncServerDataPayload(buf.readLong(), buf.readByteArray())
+	);
+
+	public static SyncServerDataPayload encode(KubeServerData data, RegistryAccess registryAccess) {
+		var buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess, ConnectionType.NEOFORGE);
+
+		try {
+			KubeServerData.STREAM_CODEC.encode(buf, data);
+			var bytes = new byte[buf.readableBytes()];
+			buf.readBytes(bytes);
+
+			var digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+			var out = new ByteArrayOutputStream(Math.max(256, bytes.length / 4));
+
+			try (var stream = new DeflaterOutputStream(out)) {
+				stream.write(bytes);
+			}
+
+			return new SyncServerDataPayload(ByteBuffer.wrap(digest).getLong(), out.toByteArray());
+		} catch (Exception ex) {
+			throw new RuntimeException("Failed to encode server data", ex);
+		} finally {
+			buf.release();
+		}
+	}
+
+	public KubeServerData decode(RegistryAccess registryAccess) throws IOException {
+		byte[] bytes;
+
+		try (var stream = new InflaterInputStream(new ByteArrayInputStream(data))) {
+			bytes = stream.readAllBytes();
+		}
+
+		var buf = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(bytes), registryAccess, ConnectionType.NEOFORGE);
+
+		try {
+			return KubeServerData.STREAM_CODEC.decode(buf);
+		} finally {
+			buf.release();
+		}
+	}
 
 	@Override
 	public Type<?> type() {
@@ -15,6 +76,12 @@ public record SyncServerDataPayload(KubeServerData data) implements CustomPacket
 	}
 
 	public void handle(IPayloadContext ctx) {
-		ctx.enqueueWork(() -> KubeJS.PROXY.updateServerData(data));
+		ctx.enqueueWork(() -> {
+			try {
+				KubeJS.PROXY.updateServerData(decode(ctx.player().registryAccess()));
+			} catch (Exception ex) {
+				KubeJS.LOGGER.error("Failed to decode server data", ex);
+			}
+		});
 	}
-}
\ No newline at end of file
+}
@@ -21,12 +21,33 @@ import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 @EventBusSubscriber(modid = KubeJS.MOD_ID)
 public class KubeJSPlayerEventHandler {
+	/**
+	 * Hash of the server data last sent to each player, so that reloads which don't change it don't send it again.
+	 */
+	private static final Map<UUID, Long> SYNCED_SERVER_DATA = new ConcurrentHashMap<>();
+
 	@SubscribeEvent(priority = EventPriority.HIGH)
 	public static void datapackSync(OnDatapackSyncEvent event) {
-		var payload = event.getPlayerList().getServer().getServerResources().managers().kjs$getServerScriptManager().serverData;
-		event.getRelevantPlayers().forEach(player -> PacketDistributor.sendToPlayer(player, payload));
+		var server = event.getPlayerList().getServer();
+		var payload = server.getServerResources().managers().kjs$getServerScriptManager().getServerDataPayload(server.registryAccess());
+
+		if (payload == null) {
+			return;
+		}
+
+		event.getRelevantPlayers().forEach(player -> {
+			var prev = SYNCED_SERVER_DATA.put(player.getUUID(), payload.hash());
+
+			if (prev == null || prev != payload.hash()) {
+				PacketDistributor.sendToPlayer(player, payload);
+			}
+		});
 	}
 
 	@SubscribeEvent
@@ -71,6 +92,8 @@ public class KubeJSPlayerEventHandler {
 
 	@SubscribeEvent
 	public static void loggedOut(net.neoforged.neoforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent event) {
+		SYNCED_SERVER_DATA.remove(event.getEntity().getUUID());
+
 		if (PlayerEvents.LOGGED_OUT.hasListeners() && event.getEntity() instanceof ServerPlayer player) {
 			PlayerEvents.LOGGED_OUT.post(ScriptType.SERVER, new SimplePlayerKubeEvent(player));
 		}
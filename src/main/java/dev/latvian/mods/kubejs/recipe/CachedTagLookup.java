@@ -24,6 +24,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -46,7 +49,8 @@ public class CachedTagLookup<T> {
 	public final Registry<T> registry;
 	public final Map<ResourceLocation, List<TagLoader.EntryWithSource>> originalMap;
 	private Map<ResourceLocation, Collection<Holder<T>>> tagMap;
-	private Map<TagKey<T>, Set<T>> keyToValue;
+	private volatile Map<TagKey<T>, Set<T>> keyToValue;
+	private CompletableFuture<Map<TagKey<T>, Set<T>>> pendingKeyToValue;
 	private Map<T, Set<TagKey<T>>> valueToKey;
 
 	public CachedTagLookup(Registry<T> registry, Map<ResourceLocation, List<TagLoader.EntryWithSource>> originalMap) {
@@ -83,25 +87,56 @@ public class CachedTagLookup<T> {
 			}
 		};
 
+		// Errors are sorted so that builds running in parallel log them in the same order every time
+		var errors = new TreeMap<ResourceLocation, String>();
 		var dependencysorter = new DependencySorter<ResourceLocation, SortingEntry>();
 		builders.forEach((arg, list) -> dependencysorter.addEntry(arg, new SortingEntry(list)));
-		dependencysorter.orderByDependencies((arg, arg2) -> this.build(lookup, arg2.entries).ifLeft(collection -> KubeJS.LOGGER.error("Couldn't load tag {} as it is missing following references: {}", arg, collection.stream().map(Objects::toString).collect(Collectors.joining("\n\t", "\n\t", "")))).ifRight(collection -> map.put(arg, collection)));
+		dependencysorter.orderByDependencies((arg, arg2) -> this.build(lookup, arg2.entries).ifLeft(collection -> errors.put(arg, collection.stream().map(Objects::toString).collect(Collectors.joining("\n\t", "\n\t", "")))).ifRight(collection -> map.put(arg, collection)));
+
+		for (var error : errors.entrySet()) {
+			KubeJS.LOGGER.error("Couldn't load tag {} as it is missing following references: {}", error.getKey(), error.getValue());
+		}
+
 		return map;
 	}
 
+	private Map<TagKey<T>, Set<T>> createKeyToValue() {
+		var map = build(originalMap);
+		var result = new Reference2ObjectOpenHashMap<TagKey<T>, Set<T>>(map.size());
+
+		for (var entry : map.entrySet()) {
+			var k = TagKey.create(registry.key(), entry.getKey());
+			result.put(k, Set.copyOf(entry.getValue()));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Starts building tags in the background, so that registries are built in parallel instead of one by one when they're first used.
+	 */
+	public synchronized void buildAsync(Executor executor) {
+		if (keyToValue == null && pendingKeyToValue == null) {
+			pendingKeyToValue = CompletableFuture.supplyAsync(this::createKeyToValue, executor);
+		}
+	}
+
 	public Map<TagKey<T>, Set<T>> keyToValue() {
-		if (keyToValue == null) {
-			var map = build(originalMap);
-			keyToValue = new Reference2ObjectOpenHashMap<>(map.size());
+		var map = keyToValue;
+
+		if (map == null) {
+			synchronized (this) {
+				map = keyToValue;
 
-			for (var entry : map.entrySet()) {
-				var k = TagKey.create(registry.key(), entry.getKey());
-				keyToValue.put(k, Set.copyOf(entry.getValue()));
+				if (map == null) {
+					map = pendingKeyToValue == null ? createKeyToValue() : pendingKeyToValue.join();
+					pendingKeyToValue = null;
+					keyToValue = map;
+				}
 			}
 		}
 
-		return keyToValue;
-
+		return map;
 	}
 
 	public Set<T> values(TagKey<T> key) {
@@ -24,6 +24,7 @@ import dev.latvian.mods.kubejs.recipe.special.KubeJSCraftingRecipe;
 import dev.latvian.mods.kubejs.script.ConsoleJS;
 import dev.latvian.mods.kubejs.script.SourceLine;
 import dev.latvian.mods.kubejs.util.Cast;
+import dev.latvian.mods.kubejs.util.JsonUtils;
 import dev.latvian.mods.kubejs.util.KubeResourceLocation;
 import dev.latvian.mods.kubejs.util.SlotFilter;
 import dev.latvian.mods.rhino.Context;
@@ -44,6 +45,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	public static final String CHANGED_MARKER = "_kubejs_changed_marker";
@@ -64,6 +66,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	public JsonObject json = null;
 	public boolean changed = false;
 	public boolean creationError = false;
+	private volatile boolean deferred = false;
+	private boolean materializing = false;
 
 	protected List<IngredientActionHolder> recipeIngredientActions;
 
@@ -72,6 +76,61 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 		return new RecipeFunction(cx, scope, staticType, this);
 	}
 
+	/**
+	 * Skips decoding component values until something first reads or changes them, see {@link #materialize()}.
+	 * Recipes that are never touched pass through the recipe event with their original json.
+	 */
+	@HideFromJS
+	public final void deferDeserialization() {
+		deferred = true;
+	}
+
+	public final boolean isDeferred() {
+		return deferred;
+	}
+
+	/**
+	 * Decodes component values of a recipe loaded with {@link #deferDeserialization()}. Does nothing for any other recipe.
+	 * If decoding fails, the recipe is left without component values, and isn't matched or modified by filters.
+	 * <p>
+	 * Check and decoding happen under the recipe's lock, so a recipe reached from several threads is only decoded once,
+	 * and other threads wait until its values are set. Calls from the decoding thread itself, e.g. from {@link #afterLoaded()}, return straight away.
+	 */
+	@HideFromJS
+	public final void materialize() {
+		if (!deferred) {
+			return;
+		}
+
+		synchronized (this) {
+			if (!deferred || materializing) {
+				return;
+			}
+
+			materializing = true;
+			originalJson = (JsonObject) JsonUtils.copy(json);
+			type.event.materializedCount.increment();
+
+			try {
+				deserialize(false);
+				afterLoaded();
+			} catch (Throwable ex) {
+				valueMap = RecipeComponentValueMap.EMPTY;
+				inputValues = null;
+				outputValues = null;
+
+				if (DevProperties.get().logErroringRecipes) {
+					ConsoleJS.SERVER.warn("Failed to parse recipe '" + this + "', it will be passed through unchanged", ex, RecipesKubeEvent.POST_SKIP_ERROR);
+				}
+			} finally {
+				materializing = false;
+				deferred = false;
+			}
+		}
+
+		type.event.recipeIndex.invalidate(this);
+	}
+
 	public void deserialize(boolean merge) {
 		for (var v : valueMap.holders) {
 			try {
@@ -91,6 +150,10 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	}
 
 	public void serialize() {
+		if (deferred) {
+			return;
+		}
+
 		for (var v : valueMap.holders) {
 			if (v.shouldWrite()) {
 				if (v.value == null) {
@@ -104,6 +167,7 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	@Nullable
 	public <T> T getValue(RecipeKey<T> key) {
+		materialize();
 		var v = valueMap.getHolder(key);
 
 		if (v == null) {
@@ -114,6 +178,7 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	}
 
 	public <T> KubeRecipe setValue(RecipeKey<T> key, T value) {
+		materialize();
 		RecipeComponentValue<T> v = Cast.to(valueMap.getHolder(key));
 
 		if (v == null) {
@@ -129,6 +194,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	// intended for use by scripts
 	@Nullable
 	public Object get(String key) {
+		materialize();
+
 		for (var h : valueMap.holders) {
 			for (var name : h.key.names) {
 				if (name.equals(key)) {
@@ -142,6 +209,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	// intended for use by scripts
 	public KubeRecipe set(Context cx, String key, Object value) {
+		materialize();
+
 		for (var h : valueMap.holders) {
 			for (var name : h.key.names) {
 				if (name.equals(key)) {
@@ -180,6 +249,7 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	@HideFromJS
 	public RecipeComponentValue<?>[] getRecipeComponentValues() {
+		materialize();
 		return valueMap.holders;
 	}
 
@@ -195,8 +265,17 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 		}
 	}
 
+	/**
+	 * Marks this recipe as changed. This doesn't write anything to {@link #json},
+	 * changed component values are only serialized once by {@link #serializeChanges()} at the end of the recipe event,
+	 * so it is cheap to call after every modification.
+	 */
 	public final void save() {
 		changed = true;
+
+		if (!newRecipe) {
+			type.event.recipeIndex.invalidate(this);
+		}
 	}
 
 	public KubeRecipe id(KubeResourceLocation id) {
@@ -212,6 +291,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	public KubeRecipe merge(JsonObject j) {
 		if (j != null && j.size() > 0) {
+			materialize();
+
 			for (var entry : j.entrySet()) {
 				json.add(entry.getKey(), entry.getValue());
 			}
@@ -226,6 +307,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 	public final boolean hasChanged() {
 		if (changed) {
 			return true;
+		} else if (deferred) {
+			return false;
 		}
 
 		for (var vc : valueMap.holders) {
@@ -285,6 +368,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	@SuppressWarnings({"SuspiciousToArrayCall", "ToArrayCallWithZeroLengthArrayArgument"})
 	public final RecipeComponentValue<?>[] inputValues() {
+		materialize();
+
 		if (inputValues == null) {
 			if (type.schemaType.schema.inputCount() == 0) {
 				inputValues = Cast.to(RecipeComponentValue.EMPTY_ARRAY);
@@ -306,6 +391,8 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 
 	@SuppressWarnings({"SuspiciousToArrayCall", "ToArrayCallWithZeroLengthArrayArgument"})
 	public final RecipeComponentValue<?>[] outputValues() {
+		materialize();
+
 		if (outputValues == null) {
 			if (type.schemaType.schema.outputCount() == 0) {
 				outputValues = Cast.to(RecipeComponentValue.EMPTY_ARRAY);
@@ -336,6 +423,55 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 		return false;
 	}
 
+	/**
+	 * Collects everything {@link #hasInput} or {@link #hasOutput} could match for the recipe event's filter index.
+	 * <p>
+	 * Override this to return false if you override either of those methods.
+	 *
+	 * @return false if this recipe must always be checked directly
+	 */
+	@HideFromJS
+	public boolean collectMatchKeys(boolean output, Consumer<Object> keys) {
+		if (deferred) {
+			return collectDeferredMatchKeys(output, keys);
+		}
+
+		for (var v : output ? outputValues() : inputValues()) {
+			if (!v.collectMatchKeys(keys)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Decodes only the input or output components of a lazily loaded recipe from {@link #json} into throwaway values, so the filter index
+	 * doesn't materialize every recipe. Only recipes the index returns as candidates are materialized when the filter tests them.
+	 */
+	private boolean collectDeferredMatchKeys(boolean output, Consumer<Object> keys) {
+		var schemaKeys = type.schemaType.schema.keys;
+
+		try {
+			for (int i = 0; i < schemaKeys.size(); i++) {
+				var key = schemaKeys.get(i);
+
+				if (output ? key.role.isOutput() : key.role.isInput()) {
+					var v = new RecipeComponentValue<>(key, i);
+					key.component.readFromJson(this, Cast.to(v), json);
+
+					if (!v.collectMatchKeys(keys)) {
+						return false;
+					}
+				}
+			}
+		} catch (Exception ex) {
+			return false;
+		}
+
+		return true;
+	}
+
 	@Override
 	public boolean replaceInput(Context cx, ReplacementMatchInfo match, Object with) {
 		boolean replaced = false;
@@ -469,6 +605,10 @@ public class KubeRecipe implements RecipeLikeKJS, CustomJavaToJsWrapper {
 		return type;
 	}
 
+	/**
+	 * Writes all changed component values to {@link #json}. Called once per recipe from {@link RecipesKubeEvent#applyChanges(java.util.Map)},
+	 * recipes that haven't changed are passed through untouched.
+	 */
 	public KubeRecipe serializeChanges() {
 		if (newRecipe || hasChanged()) {
 			serialize();
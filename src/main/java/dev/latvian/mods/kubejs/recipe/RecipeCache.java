@@ -0,0 +1,251 @@
+package dev.latvian.mods.kubejs.recipe;
+
+import com.google.common.base.Stopwatch;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import dev.latvian.mods.kubejs.CommonProperties;
+import dev.latvian.mods.kubejs.KubeJS;
+import dev.latvian.mods.kubejs.KubeJSPaths;
+import dev.latvian.mods.kubejs.core.RecipeManagerKJS;
+import dev.latvian.mods.kubejs.plugin.KubeJSPlugin;
+import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
+import dev.latvian.mods.kubejs.script.ConsoleJS;
+import dev.latvian.mods.kubejs.script.ScriptManager;
+import dev.latvian.mods.kubejs.server.DataExport;
+import dev.latvian.mods.kubejs.server.ServerScriptManager;
+import dev.latvian.mods.kubejs.util.JsonUtils;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.neoforged.fml.ModList;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Stores the recipe map produced by {@link RecipesKubeEvent#applyChanges(Map)} on disk, so that a reload
+ * with the same datapack recipes, tags, scripts, mods and plugins can skip the recipe event entirely.
+ * <p>
+ * Enabled with <code>cache_recipes</code> in the common properties. Since the event doesn't run on a hit,
+ * scripts must not rely on side effects of the recipe event.
+ */
+public class RecipeCache {
+	private static final int MAGIC = 0x4B4A5243; // KJRC
+	private static final int FORMAT_VERSION = 2;
+
+	@Nullable
+	public static RecipeCache of(ServerScriptManager manager, ResourceManager resourceManager, Map<ResourceLocation, JsonElement> datapackRecipeMap) {
+		if (!CommonProperties.get().cacheRecipes || DataExport.export != null) {
+			return null;
+		}
+
+		for (var plugin : KubeJSPlugins.getAll()) {
+			try {
+				if (plugin.getClass().getMethod("injectRuntimeRecipes", RecipesKubeEvent.class, RecipeManagerKJS.class, Map.class).getDeclaringClass() != KubeJSPlugin.class) {
+					ConsoleJS.SERVER.info("Recipe cache disabled, " + plugin.getClass().getName() + " injects runtime recipes");
+					return null;
+				}
+			} catch (NoSuchMethodException ignored) {
+			}
+		}
+
+		try {
+			return new RecipeCache(KubeJSPaths.CACHE.resolve("recipes.bin"), fingerprint(manager, resourceManager, datapackRecipeMap));
+		} catch (Exception ex) {
+			ConsoleJS.SERVER.warn("Failed to fingerprint recipes, not using the recipe cache", ex);
+			return null;
+		}
+	}
+
+	private static byte[] fingerprint(ServerScriptManager manager, ResourceManager resourceManager, Map<ResourceLocation, JsonElement> datapackRecipeMap) throws Exception {
+		var digest = MessageDigest.getInstance("SHA-256");
+
+		try (var stream = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+			stream.writeInt(FORMAT_VERSION);
+			stream.writeUTF(KubeJS.VERSION);
+			stream.writeInt(KubeJS.MC_VERSION_NUMBER);
+
+			var common = CommonProperties.get();
+			stream.writeUTF(common.packMode);
+			stream.writeBoolean(common.serverOnly);
+			stream.writeBoolean(common.matchJsonRecipes);
+			stream.writeBoolean(common.ignoreCustomUniqueRecipeIds);
+
+			for (var mod : ModList.get().getSortedMods()) {
+				stream.writeUTF(mod.getModId());
+				stream.writeUTF(mod.getModInfo().getVersion().toString());
+			}
+
+			for (var plugin : KubeJSPlugins.getAll()) {
+				stream.writeUTF(plugin.getClass().getName());
+			}
+
+			writeScripts(stream, KubeJS.getStartupScriptManager());
+			writeScripts(stream, manager);
+
+			for (var entry : manager.getRegistries().cachedRegistryTags.values()) {
+				if (entry.lookup() == null) {
+					continue;
+				}
+
+				stream.writeUTF(entry.key().location().toString());
+				var tags = entry.lookup().originalMap.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+
+				for (var tag : tags) {
+					stream.writeUTF(tag.getKey().toString());
+
+					for (var e : tag.getValue()) {
+						stream.writeUTF(e.entry().toString());
+					}
+				}
+			}
+
+			// Recipe schemas, mappings and components from datapacks, see RecipeSchemaStorage.fireEvents
+			var schemas = resourceManager.listResources("kubejs", RecipeCache::isSchemaFile).entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+			stream.writeInt(schemas.size());
+
+			for (var entry : schemas) {
+				stream.writeUTF(entry.getKey().toString());
+
+				try (var in = entry.getValue().open()) {
+					writeBytes(stream, in.readAllBytes());
+				}
+			}
+
+			var recipes = datapackRecipeMap.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+			stream.writeInt(recipes.size());
+
+			for (var entry : recipes) {
+				stream.writeUTF(entry.getKey().toString());
+				writeBytes(stream, JsonUtils.toString(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		return digest.digest();
+	}
+
+	private static boolean isSchemaFile(ResourceLocation path) {
+		var p = path.getPath();
+		return p.startsWith("kubejs/recipe_schema/") && p.endsWith(".json") || p.endsWith("/recipe_mappings.json") || p.endsWith("/recipe_components.json");
+	}
+
+	/**
+	 * Length-prefixed, so that neighbouring values can't run into each other and hash the same
+	 */
+	private static void writeBytes(DataOutputStream stream, byte[] bytes) throws Exception {
+		stream.writeInt(bytes.length);
+		stream.write(bytes);
+	}
+
+	private static void writeScripts(DataOutputStream stream, @Nullable ScriptManager manager) throws Exception {
+		if (manager == null) {
+			return;
+		}
+
+		for (var pack : manager.packs.values()) {
+			stream.writeUTF(pack.info.namespace);
+
+			for (var file : pack.scripts) {
+				stream.writeUTF(file.info.location);
+				stream.writeUTF(file.contentHash);
+			}
+		}
+	}
+
+	public final Path path;
+	public final byte[] fingerprint;
+
+	private RecipeCache(Path path, byte[] fingerprint) {
+		this.path = path;
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * @return true if the cache matched and the map was replaced with cached recipes
+	 */
+	public boolean load(Map<ResourceLocation, JsonElement> map) {
+		if (Files.notExists(path)) {
+			return false;
+		}
+
+		var timer = Stopwatch.createStarted();
+
+		try (var stream = new DataInputStream(new InflaterInputStream(Files.newInputStream(path)))) {
+			if (stream.readInt() != MAGIC || stream.readInt() != FORMAT_VERSION) {
+				return false;
+			}
+
+			var f = new byte[stream.readUnsignedByte()];
+			stream.readFully(f);
+
+			if (!Arrays.equals(f, fingerprint)) {
+				ConsoleJS.SERVER.info("Scripts, datapacks or mods changed, recipe cache is outdated");
+				return false;
+			}
+
+			int count = stream.readInt();
+			var recipes = new HashMap<ResourceLocation, JsonElement>(count);
+
+			for (int i = 0; i < count; i++) {
+				var id = ResourceLocation.parse(stream.readUTF());
+				var bytes = new byte[stream.readInt()];
+				stream.readFully(bytes);
+				recipes.put(id, JsonParser.parseString(new String(bytes, StandardCharsets.UTF_8)));
+			}
+
+			map.clear();
+			map.putAll(recipes);
+			ConsoleJS.SERVER.info("Loaded %d recipes from cache in %s, skipping recipe event".formatted(count, timer.stop()));
+			return true;
+		} catch (Exception ex) {
+			ConsoleJS.SERVER.warn("Failed to read recipe cache", ex);
+			return false;
+		}
+	}
+
+	public void save(Map<ResourceLocation, JsonElement> map) {
+		var timer = Stopwatch.createStarted();
+		var tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+		try {
+			try (var stream = new DataOutputStream(new DeflaterOutputStream(Files.newOutputStream(tmp)))) {
+				stream.writeInt(MAGIC);
+				stream.writeInt(FORMAT_VERSION);
+				stream.writeByte(fingerprint.length);
+				stream.write(fingerprint);
+
+				var recipes = map.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+				stream.writeInt(recipes.size());
+
+				for (var entry : recipes) {
+					var bytes = JsonUtils.toString(entry.getValue()).getBytes(StandardCharsets.UTF_8);
+					stream.writeUTF(entry.getKey().toString());
+					stream.writeInt(bytes.length);
+					stream.write(bytes);
+				}
+			}
+
+			Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			ConsoleJS.SERVER.info("Saved %d recipes to cache in %s".formatted(map.size(), timer.stop()));
+		} catch (Exception ex) {
+			ConsoleJS.SERVER.warn("Failed to write recipe cache", ex);
+
+			try {
+				Files.deleteIfExists(tmp);
+			} catch (Exception ignored) {
+			}
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package dev.latvian.mods.kubejs.recipe;
+
+import dev.latvian.mods.kubejs.recipe.component.FluidIngredientComponent;
+import dev.latvian.mods.kubejs.recipe.component.IngredientComponent;
+import dev.latvian.mods.kubejs.recipe.filter.AndFilter;
+import dev.latvian.mods.kubejs.recipe.filter.ConstantFilter;
+import dev.latvian.mods.kubejs.recipe.filter.IDFilter;
+import dev.latvian.mods.kubejs.recipe.filter.InputFilter;
+import dev.latvian.mods.kubejs.recipe.filter.ModFilter;
+import dev.latvian.mods.kubejs.recipe.filter.OrFilter;
+import dev.latvian.mods.kubejs.recipe.filter.OutputFilter;
+import dev.latvian.mods.kubejs.recipe.filter.RecipeFilter;
+import dev.latvian.mods.kubejs.recipe.filter.TypeFilter;
+import dev.latvian.mods.kubejs.recipe.match.ReplacementMatchInfo;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.neoforged.neoforge.common.crafting.SizedIngredient;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
+import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index of {@link RecipesKubeEvent#originalRecipes} used to narrow down the recipes a {@link RecipeFilter} has to be tested against.
+ * <p>
+ * The index only ever returns a superset of matching recipes, every candidate is still tested with the filter itself.
+ * It is built lazily on first query and recipes that call {@link KubeRecipe#save()} are re-indexed before the next one.
+ */
+public class RecipeIndex {
+	private final RecipesKubeEvent event;
+	private boolean built;
+	private final Set<KubeRecipe> recipes;
+	private final Set<KubeRecipe> dirty;
+	private final Map<Object, Set<KubeRecipe>> inputs;
+	private final Map<Object, Set<KubeRecipe>> outputs;
+	private final Set<KubeRecipe> unindexedInputs;
+	private final Set<KubeRecipe> unindexedOutputs;
+	private final Map<ResourceLocation, Set<KubeRecipe>> types;
+	private final Map<String, Set<KubeRecipe>> mods;
+
+	public RecipeIndex(RecipesKubeEvent event) {
+		this.event = event;
+		this.built = false;
+		this.recipes = new ReferenceOpenHashSet<>();
+		this.dirty = new ReferenceOpenHashSet<>();
+		this.inputs = new Reference2ObjectOpenHashMap<>();
+		this.outputs = new Reference2ObjectOpenHashMap<>();
+		this.unindexedInputs = new ReferenceOpenHashSet<>();
+		this.unindexedOutputs = new ReferenceOpenHashSet<>();
+		this.types = new HashMap<>();
+		this.mods = new HashMap<>();
+	}
+
+	public void invalidate(KubeRecipe recipe) {
+		if (built && recipes.contains(recipe)) {
+			dirty.add(recipe);
+		}
+	}
+
+	/**
+	 * @return recipes that may match the filter, or null if the filter can't be answered by the index
+	 */
+	@Nullable
+	public List<KubeRecipe> find(RecipeFilter filter) {
+		if (!built) {
+			built = true;
+
+			for (var r : event.originalRecipes.values()) {
+				recipes.add(r);
+				add(r);
+			}
+		} else if (!dirty.isEmpty()) {
+			for (var r : dirty) {
+				add(r);
+			}
+
+			dirty.clear();
+		}
+
+		var set = query(filter);
+		return set == null ? null : new ArrayList<>(set);
+	}
+
+	private void add(KubeRecipe r) {
+		// Stale keys are never removed, they only add candidates that fail the filter test
+		types.computeIfAbsent(r.getType(), k -> new ReferenceOpenHashSet<>()).add(r);
+		mods.computeIfAbsent(r.kjs$getMod(), k -> new ReferenceOpenHashSet<>()).add(r);
+
+		// Lazily loaded recipes only decode their input and output components here, see KubeRecipe.collectMatchKeys
+		unindexedInputs.remove(r);
+		unindexedOutputs.remove(r);
+
+		if (!r.collectMatchKeys(false, key -> inputs.computeIfAbsent(key, k -> new ReferenceOpenHashSet<>()).add(r))) {
+			unindexedInputs.add(r);
+		}
+
+		if (!r.collectMatchKeys(true, key -> outputs.computeIfAbsent(key, k -> new ReferenceOpenHashSet<>()).add(r))) {
+			unindexedOutputs.add(r);
+		}
+	}
+
+	@Nullable
+	private Set<KubeRecipe> query(RecipeFilter filter) {
+		return switch (filter) {
+			case ConstantFilter c -> c.filter() ? null : Set.of();
+			case IDFilter f -> {
+				var r = event.originalRecipes.get(f.id);
+				yield r == null ? Set.of() : Set.of(r);
+			}
+			case TypeFilter f -> types.getOrDefault(f.type, Set.of());
+			case ModFilter f -> mods.getOrDefault(f.mod, Set.of());
+			case InputFilter f -> queryMatch(inputs, unindexedInputs, f.match());
+			case OutputFilter f -> queryMatch(outputs, unindexedOutputs, f.match);
+			case AndFilter f -> queryAnd(f.list);
+			case OrFilter f -> queryOr(f.list);
+			default -> null;
+		};
+	}
+
+	@Nullable
+	private Set<KubeRecipe> queryAnd(List<RecipeFilter> list) {
+		var sets = new ArrayList<Set<KubeRecipe>>(list.size());
+
+		for (var f : list) {
+			var set = query(f);
+
+			if (set != null) {
+				if (set.isEmpty()) {
+					return Set.of();
+				}
+
+				sets.add(set);
+			}
+		}
+
+		if (sets.isEmpty()) {
+			return null;
+		}
+
+		var smallest = sets.getFirst();
+
+		for (var set : sets) {
+			if (set.size() < smallest.size()) {
+				smallest = set;
+			}
+		}
+
+		var result = new ReferenceOpenHashSet<KubeRecipe>();
+
+		exit:
+		for (var r : smallest) {
+			for (var set : sets) {
+				if (set != smallest && !set.contains(r)) {
+					continue exit;
+				}
+			}
+
+			result.add(r);
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private Set<KubeRecipe> queryOr(List<RecipeFilter> list) {
+		var result = new ReferenceOpenHashSet<KubeRecipe>();
+
+		for (var f : list) {
+			var set = query(f);
+
+			if (set == null) {
+				return null;
+			}
+
+			result.addAll(set);
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private Set<KubeRecipe> queryMatch(Map<Object, Set<KubeRecipe>> map, Set<KubeRecipe> unindexed, ReplacementMatchInfo match) {
+		var keys = new ReferenceOpenHashSet<>();
+
+		if (!collectFilterKeys(match.match(), keys::add)) {
+			return null;
+		}
+
+		var result = new ReferenceOpenHashSet<>(unindexed);
+
+		for (var key : keys) {
+			var set = map.get(key);
+
+			if (set != null) {
+				result.addAll(set);
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean collectFilterKeys(Object match, Consumer<Object> keys) {
+		return switch (match) {
+			case ItemStack stack -> {
+				keys.accept(stack.getItem());
+				yield true;
+			}
+			case Ingredient in -> IngredientComponent.INGREDIENT.collectMatchKeys(in, keys);
+			case SizedIngredient in -> IngredientComponent.INGREDIENT.collectMatchKeys(in.ingredient(), keys);
+			case FluidStack stack -> {
+				keys.accept(stack.getFluid());
+				yield true;
+			}
+			case FluidIngredient in -> FluidIngredientComponent.FLUID_INGREDIENT.collectMatchKeys(in, keys);
+			case SizedFluidIngredient in -> FluidIngredientComponent.FLUID_INGREDIENT.collectMatchKeys(in.ingredient(), keys);
+			default -> false;
+		};
+	}
+}
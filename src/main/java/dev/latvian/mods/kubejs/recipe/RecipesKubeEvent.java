@@ -16,11 +16,14 @@ import dev.latvian.mods.kubejs.error.KubeRuntimeException;
 import dev.latvian.mods.kubejs.error.UnknownRecipeTypeException;
 import dev.latvian.mods.kubejs.event.KubeEvent;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
+import dev.latvian.mods.kubejs.recipe.filter.AndFilter;
 import dev.latvian.mods.kubejs.recipe.filter.ConstantFilter;
 import dev.latvian.mods.kubejs.recipe.filter.IDFilter;
+import dev.latvian.mods.kubejs.recipe.filter.NotFilter;
 import dev.latvian.mods.kubejs.recipe.filter.OrFilter;
 import dev.latvian.mods.kubejs.recipe.filter.RecipeFilter;
 import dev.latvian.mods.kubejs.recipe.filter.RegexIDFilter;
+import dev.latvian.mods.kubejs.recipe.match.IngredientMatchCache;
 import dev.latvian.mods.kubejs.recipe.match.ReplacementMatchInfo;
 import dev.latvian.mods.kubejs.recipe.schema.RecipeSchema;
 import dev.latvian.mods.kubejs.recipe.schema.RecipeSchemaStorage;
@@ -57,10 +60,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -83,8 +88,11 @@ public class RecipesKubeEvent implements KubeEvent {
 	public final Map<ResourceLocation, KubeRecipe> originalRecipes;
 	public final Collection<KubeRecipe> addedRecipes;
 	public final Collection<KubeRecipe> removedRecipes;
+	public final RecipeIndex recipeIndex;
+	public final IngredientMatchCache ingredientMatchCache;
 
 	int modifiedCount, failedCount;
+	final LongAdder materializedCount;
 
 	private final Map<ResourceLocation, KubeRecipe> takenIds;
 
@@ -114,8 +122,11 @@ public class RecipesKubeEvent implements KubeEvent {
 		this.originalRecipes = new HashMap<>();
 		this.addedRecipes = new ConcurrentLinkedQueue<>();
 		this.removedRecipes = new ConcurrentLinkedQueue<>();
+		this.recipeIndex = new RecipeIndex(this);
+		this.ingredientMatchCache = new IngredientMatchCache(registries);
 		this.recipeFunctions = new HashMap<>();
 		this.takenIds = new ConcurrentHashMap<>();
+		this.materializedCount = new LongAdder();
 
 		// var itemTags = manager.getLoadedTags(Registries.ITEM);
 		// System.out.println(itemTags);
@@ -176,9 +187,15 @@ public class RecipesKubeEvent implements KubeEvent {
 
 	@HideFromJS
 	public void post(RecipeManagerKJS recipeManager, Map<ResourceLocation, JsonElement> datapackRecipeMap) {
-		discoverRecipes(recipeManager, datapackRecipeMap);
-		postEvent();
-		applyChanges(datapackRecipeMap);
+		IngredientMatchCache.current = ingredientMatchCache;
+
+		try {
+			discoverRecipes(recipeManager, datapackRecipeMap);
+			postEvent();
+			applyChanges(datapackRecipeMap);
+		} finally {
+			IngredientMatchCache.current = null;
+		}
 	}
 
 	@HideFromJS
@@ -187,39 +204,26 @@ public class RecipesKubeEvent implements KubeEvent {
 
 		KubeJSPlugins.forEachPlugin(p -> p.beforeRecipeLoading(this, recipeManager, datapackRecipeMap));
 
-		for (var entry : datapackRecipeMap.entrySet()) {
-			var recipeId = entry.getKey();
-
-			//Forge: filter anything beginning with "_" as it's used for metadata.
-			if (recipeId == null || recipeId.getPath().startsWith("_")) {
-				infoSkip("Skipping recipe %s, filename starts with _".formatted(recipeId));
-				continue;
-			}
-
-			var originalJsonElement = entry.getValue();
-
-			if (!originalJsonElement.isJsonObject()) {
-				warnSkip("Skipping recipe %s, not a json object".formatted(recipeId));
-				continue;
-			}
+		// Recipes are deserialized in parallel (unless disabled) but collected in map order and added from this thread
+		var entries = DevProperties.get().parallelRecipeDiscovery ? datapackRecipeMap.entrySet().parallelStream() : datapackRecipeMap.entrySet().stream();
+		var discovered = entries.map(this::discoverRecipe).filter(Objects::nonNull).toList();
+		var debug = ConsoleJS.SERVER.shouldPrintDebug();
 
-			var originalJson = originalJsonElement.getAsJsonObject();
+		for (var recipe : discovered) {
+			originalRecipes.put(recipe.id, recipe);
 
-			if (!originalJson.has("type")) {
-				warnSkip("Skipping recipe %s, not a json object".formatted(recipeId));
-				continue;
-			}
+			if (debug) {
+				var recipeIdAndType = recipe.id + "[" + recipe.type.idString + "]";
+				var original = recipe.getOriginalRecipe();
 
-			var codec = ConditionalOps.createConditionalCodec(Codec.unit(originalJson));
-			switch (codec.parse(jsonOps, originalJson)) {
-				case DataResult.Success(var jsonResult, var lifecycle) -> {
-					if (jsonResult.isEmpty()) {
-						infoSkip("Skipping recipe %s, conditions not met".formatted(recipeId));
-					} else {
-						parseOriginalRecipe(jsonResult.get(), recipeId);
-					}
+				if (original == null || SpecialRecipeSerializerManager.INSTANCE.isSpecial(original)) {
+					ConsoleJS.SERVER.debug("Loaded recipe " + recipeIdAndType + ": <dynamic>");
+				} else if (recipe.isDeferred()) {
+					// Logged from raw json, so debug logging doesn't materialize every lazily loaded recipe
+					ConsoleJS.SERVER.debug("Loaded recipe " + recipeIdAndType + ": " + recipe.json);
+				} else {
+					ConsoleJS.SERVER.debug("Loaded recipe " + recipeIdAndType + ": " + recipe.getFromToString());
 				}
-				case DataResult.Error<?> error -> errorSkip("Skipping recipe %s, error parsing conditions: %s".formatted(recipeId, error.message()));
 			}
 		}
 
@@ -227,30 +231,66 @@ public class RecipesKubeEvent implements KubeEvent {
 		ConsoleJS.SERVER.info("Found %d recipes in %s".formatted(originalRecipes.size(), timer.stop()));
 	}
 
-	private void parseOriginalRecipe(JsonObject json, ResourceLocation recipeId) {
+	@Nullable
+	private KubeRecipe discoverRecipe(Map.Entry<ResourceLocation, JsonElement> entry) {
+		var recipeId = entry.getKey();
+
+		//Forge: filter anything beginning with "_" as it's used for metadata.
+		if (recipeId == null || recipeId.getPath().startsWith("_")) {
+			infoSkip("Skipping recipe %s, filename starts with _".formatted(recipeId));
+			return null;
+		}
+
+		var originalJsonElement = entry.getValue();
+
+		if (!originalJsonElement.isJsonObject()) {
+			warnSkip("Skipping recipe %s, not a json object".formatted(recipeId));
+			return null;
+		}
+
+		var originalJson = originalJsonElement.getAsJsonObject();
+
+		if (!originalJson.has("type")) {
+			warnSkip("Skipping recipe %s, not a json object".formatted(recipeId));
+			return null;
+		}
+
+		var codec = ConditionalOps.createConditionalCodec(Codec.unit(originalJson));
+		return switch (codec.parse(jsonOps, originalJson)) {
+			case DataResult.Success(var jsonResult, var lifecycle) -> {
+				if (jsonResult.isEmpty()) {
+					infoSkip("Skipping recipe %s, conditions not met".formatted(recipeId));
+					yield null;
+				} else {
+					yield parseOriginalRecipe(jsonResult.get(), recipeId);
+				}
+			}
+			case DataResult.Error<?> error -> {
+				errorSkip("Skipping recipe %s, error parsing conditions: %s".formatted(recipeId, error.message()));
+				yield null;
+			}
+		};
+	}
+
+	@Nullable
+	private KubeRecipe parseOriginalRecipe(JsonObject json, ResourceLocation recipeId) {
 		var typeStr = GsonHelper.getAsString(json, "type");
 		var recipeIdAndType = recipeId + "[" + typeStr + "]";
 		var type = getRecipeFunction(typeStr);
 
 		if (type == null) {
 			warnSkip("Skipping recipe %s, unknown type: %s".formatted(recipeId, typeStr));
-			return;
+			return null;
 		}
 
 		try {
 			var recipe = type.schemaType.schema.deserialize(SourceLine.UNKNOWN, type, recipeId, json);
-			recipe.afterLoaded();
-			originalRecipes.put(recipeId, recipe);
 
-			if (ConsoleJS.SERVER.shouldPrintDebug()) {
-				var original = recipe.getOriginalRecipe();
-
-				if (original == null || SpecialRecipeSerializerManager.INSTANCE.isSpecial(original)) {
-					ConsoleJS.SERVER.debug("Loaded recipe " + recipeIdAndType + ": <dynamic>");
-				} else {
-					ConsoleJS.SERVER.debug("Loaded recipe " + recipeIdAndType + ": " + recipe.getFromToString());
-				}
+			if (!recipe.isDeferred()) {
+				recipe.afterLoaded();
 			}
+
+			return recipe;
 		} catch (InvalidRecipeComponentException ignore) {
 		} catch (Throwable ex) {
 			if (DevProperties.get().logErroringRecipes) {
@@ -258,7 +298,7 @@ public class RecipesKubeEvent implements KubeEvent {
 			}
 
 			try {
-				originalRecipes.put(recipeId, UnknownRecipeSchema.SCHEMA.deserialize(SourceLine.UNKNOWN, type, recipeId, json));
+				return UnknownRecipeSchema.SCHEMA.deserialize(SourceLine.UNKNOWN, type, recipeId, json);
 			} catch (NullPointerException | IllegalArgumentException | JsonParseException ex2) {
 				if (DevProperties.get().logErroringRecipes) {
 					ConsoleJS.SERVER.warn("Failed to parse recipe " + recipeIdAndType, ex2, POST_SKIP_ERROR);
@@ -267,6 +307,8 @@ public class RecipesKubeEvent implements KubeEvent {
 				ConsoleJS.SERVER.warn("Failed to parse recipe " + recipeIdAndType, ex3, POST_SKIP_ERROR);
 			}
 		}
+
+		return null;
 	}
 
 	private void infoSkip(String s) {
@@ -345,6 +387,10 @@ public class RecipesKubeEvent implements KubeEvent {
 
 		ConsoleJS.SERVER.info("Added %d recipes, removed %d recipes, modified %d recipes, with %d failed recipes taking %s in total".formatted(addedRecipes.size(), removedRecipes.size(), modifiedCount, failedCount, TimeJS.msToString(ChangesForChat.recipesMs)));
 
+		if (CommonProperties.get().lazyRecipeDeserialization) {
+			ConsoleJS.SERVER.info("Materialized %d of %d lazily loaded recipes".formatted(materializedCount.sum(), originalRecipes.size()));
+		}
+
 		if (DataExport.export != null) {
 			for (var r : removedRecipes) {
 				DataExport.export.addJson("removed_recipes/" + r.getId() + ".json", r.json);
@@ -443,7 +489,8 @@ public class RecipesKubeEvent implements KubeEvent {
 			return or.list.stream().map(idf -> originalRecipes.get(((IDFilter) idf).id)).filter(RECIPE_NOT_REMOVED);
 		}
 
-		return originalRecipes.values().stream().filter(new RecipeStreamFilter(cx, filter));
+		var candidates = recipeIndex.find(filter);
+		return (candidates == null ? originalRecipes.values() : candidates).stream().filter(new RecipeStreamFilter(cx, filter));
 	}
 
 	private <T> T reduceRecipesAsync(Context cx, RecipeFilter filter, Function<Stream<KubeRecipe>, T> function) {
@@ -594,6 +641,40 @@ public class RecipesKubeEvent implements KubeEvent {
 		}
 	}
 
+	private void printFilterPlan(RecipeFilter filter, String indent) {
+		switch (filter) {
+			case AndFilter f -> {
+				ConsoleJS.SERVER.info(indent + "- all of [cost " + f.cost() + "]");
+				f.list.forEach(p -> printFilterPlan(p, indent + "  "));
+			}
+			case OrFilter f -> {
+				ConsoleJS.SERVER.info(indent + "- any of [cost " + f.cost() + "]");
+				f.list.forEach(p -> printFilterPlan(p, indent + "  "));
+			}
+			case NotFilter(var original) -> {
+				ConsoleJS.SERVER.info(indent + "- not [cost " + filter.cost() + "]");
+				printFilterPlan(original, indent + "  ");
+			}
+			default -> ConsoleJS.SERVER.info(indent + "- " + filter + " [cost " + filter.cost() + "]");
+		}
+	}
+
+	public void printFilter(Context cx, RecipeFilter filter) {
+		ConsoleJS.SERVER.info("== Recipe filter plan ==");
+		printFilterPlan(filter, "");
+
+		var timer = Stopwatch.createStarted();
+		var candidates = recipeIndex.find(filter);
+		var matched = countRecipes(cx, filter);
+		timer.stop();
+
+		if (candidates == null) {
+			ConsoleJS.SERVER.info("Not indexed, tested all %d recipes, %d matched in %s".formatted(originalRecipes.size(), matched, timer));
+		} else {
+			ConsoleJS.SERVER.info("Tested %d of %d recipes from index, %d matched in %s".formatted(candidates.size(), originalRecipes.size(), matched, timer));
+		}
+	}
+
 	public synchronized ResourceLocation takeId(KubeRecipe recipe, String prefix, String ids) {
 		int i = 2;
 		var id = ResourceLocation.parse(prefix + ids);
@@ -14,6 +14,8 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.function.Consumer;
+
 public record BlockComponent() implements RecipeComponent<Block> {
 	public static final RecipeComponent<Block> BLOCK = new BlockComponent();
 
@@ -42,6 +44,11 @@ public record BlockComponent() implements RecipeComponent<Block> {
 		return match.match() instanceof BlockStatePredicate m2 && m2.testBlock(value);
 	}
 
+	@Override
+	public boolean collectMatchKeys(Block value, Consumer<Object> keys) {
+		return true;
+	}
+
 	@Override
 	public boolean isEmpty(Block value) {
 		return value == Blocks.AIR;
@@ -16,6 +16,8 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.function.Consumer;
+
 public record BlockStateComponent(boolean preferObjectForm) implements RecipeComponent<BlockState> {
 	public static final RecipeComponent<BlockState> BLOCK = new BlockStateComponent(true);
 	public static final RecipeComponent<BlockState> BLOCK_STRING = new BlockStateComponent(false);
@@ -57,6 +59,11 @@ public record BlockStateComponent(boolean preferObjectForm) implements RecipeCom
 		return match.match() instanceof BlockStatePredicate m2 && m2.test(value);
 	}
 
+	@Override
+	public boolean collectMatchKeys(BlockState value, Consumer<Object> keys) {
+		return true;
+	}
+
 	@Override
 	public boolean isEmpty(BlockState value) {
 		return value.getBlock() == Blocks.AIR;
@@ -10,6 +10,8 @@ import dev.latvian.mods.kubejs.script.ConsoleJS;
 import dev.latvian.mods.rhino.Context;
 import dev.latvian.mods.rhino.type.TypeInfo;
 
+import java.util.function.Consumer;
+
 @SuppressWarnings("OptionalIsPresent")
 public record EitherRecipeComponent<H, L>(RecipeComponent<H> high, RecipeComponent<L> low) implements RecipeComponent<Either<H, L>> {
 	public static final RecipeComponentFactory FACTORY = RecipeComponentFactory.readTwoComponents(EitherRecipeComponent::new);
@@ -54,6 +56,12 @@ public record EitherRecipeComponent<H, L>(RecipeComponent<H> high, RecipeCompone
 		return l.isPresent() ? high.matches(cx, recipe, l.get(), match) : low.matches(cx, recipe, value.right().get(), match);
 	}
 
+	@Override
+	public boolean collectMatchKeys(Either<H, L> value, Consumer<Object> keys) {
+		var l = value.left();
+		return l.isPresent() ? high.collectMatchKeys(l.get(), keys) : low.collectMatchKeys(value.right().get(), keys);
+	}
+
 	@Override
 	public Either<H, L> replace(Context cx, KubeRecipe recipe, Either<H, L> original, ReplacementMatchInfo match, Object with) {
 		var l = original.left();
@@ -12,6 +12,8 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
 import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
 
+import java.util.function.Consumer;
+
 public class FluidIngredientComponent implements RecipeComponent<FluidIngredient> {
 	public static final FluidIngredientComponent FLUID_INGREDIENT = new FluidIngredientComponent();
 
@@ -35,6 +37,19 @@ public class FluidIngredientComponent implements RecipeComponent<FluidIngredient
 		return match.match() instanceof FluidMatch m && m.matches(cx, value, match.exact());
 	}
 
+	@Override
+	public boolean collectMatchKeys(FluidIngredient value, Consumer<Object> keys) {
+		if (!value.isSimple()) {
+			return false;
+		}
+
+		for (var stack : value.getStacks()) {
+			keys.accept(stack.getFluid());
+		}
+
+		return true;
+	}
+
 	@Override
 	public boolean isEmpty(FluidIngredient value) {
 		return value.isEmpty();
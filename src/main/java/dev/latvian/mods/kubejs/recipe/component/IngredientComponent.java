@@ -14,6 +14,7 @@ import net.neoforged.neoforge.common.crafting.SizedIngredient;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class IngredientComponent implements RecipeComponent<Ingredient> {
 	public static final IngredientComponent INGREDIENT = new IngredientComponent("ingredient", Ingredient.CODEC);
@@ -74,6 +75,19 @@ public class IngredientComponent implements RecipeComponent<Ingredient> {
 		return match.match() instanceof ItemMatch m && !value.isEmpty() && m.matches(cx, value, match.exact());
 	}
 
+	@Override
+	public boolean collectMatchKeys(Ingredient value, Consumer<Object> keys) {
+		if (!value.isSimple()) {
+			return false;
+		}
+
+		for (var stack : value.getItems()) {
+			keys.accept(stack.getItem());
+		}
+
+		return true;
+	}
+
 	@Override
 	public boolean isEmpty(Ingredient value) {
 		if (value.isEmpty()) {
@@ -9,6 +9,8 @@ import dev.latvian.mods.rhino.Context;
 import dev.latvian.mods.rhino.type.TypeInfo;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.function.Consumer;
+
 public class ItemStackComponent implements RecipeComponent<ItemStack> {
 	public static final ItemStackComponent ITEM_STACK = new ItemStackComponent("item_stack", ItemStack.OPTIONAL_CODEC);
 	public static final ItemStackComponent STRICT_ITEM_STACK = new ItemStackComponent("strict_item_stack", ItemStack.STRICT_CODEC);
@@ -41,6 +43,12 @@ public class ItemStackComponent implements RecipeComponent<ItemStack> {
 		return match.match() instanceof ItemMatch m && !value.isEmpty() && m.matches(cx, value, match.exact());
 	}
 
+	@Override
+	public boolean collectMatchKeys(ItemStack value, Consumer<Object> keys) {
+		keys.accept(value.getItem());
+		return true;
+	}
+
 	@Override
 	public boolean isEmpty(ItemStack value) {
 		return value.isEmpty();
@@ -15,6 +15,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public record ListRecipeComponent<T>(RecipeComponent<T> component, boolean canWriteSelf, TypeInfo listTypeInfo, Codec<List<T>> listCodec, boolean conditional) implements RecipeComponent<List<T>> {
 	static <L> ListRecipeComponent<L> create(RecipeComponent<L> component, boolean canWriteSelf, boolean conditional) {
@@ -111,6 +112,17 @@ public record ListRecipeComponent<T>(RecipeComponent<T> component, boolean canWr
 		return false;
 	}
 
+	@Override
+	public boolean collectMatchKeys(List<T> value, Consumer<Object> keys) {
+		for (var v : value) {
+			if (!component.collectMatchKeys(v, keys)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public List<T> replace(Context cx, KubeRecipe recipe, List<T> original, ReplacementMatchInfo match, Object with) {
 		var arr = original;
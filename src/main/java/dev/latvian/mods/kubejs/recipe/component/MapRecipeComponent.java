@@ -12,6 +12,7 @@ import dev.latvian.mods.rhino.type.TypeInfo;
 import net.minecraft.world.item.crafting.Ingredient;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 public record MapRecipeComponent<K, V>(RecipeComponent<K> key, RecipeComponent<V> component, boolean patternKey) implements RecipeComponent<TinyMap<K, V>> {
 	public static final MapRecipeComponent<Character, Ingredient> INGREDIENT_PATTERN_KEY = new MapRecipeComponent<>(CharacterComponent.CHARACTER, IngredientComponent.INGREDIENT, true);
@@ -111,6 +112,17 @@ public record MapRecipeComponent<K, V>(RecipeComponent<K> key, RecipeComponent<V
 		return false;
 	}
 
+	@Override
+	public boolean collectMatchKeys(TinyMap<K, V> value, Consumer<Object> keys) {
+		for (var entry : value.entries()) {
+			if (!component.collectMatchKeys(entry.value(), keys)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public TinyMap<K, V> replace(Context cx, KubeRecipe recipe, TinyMap<K, V> original, ReplacementMatchInfo match, Object with) {
 		var map = original;
@@ -18,6 +18,7 @@ import dev.latvian.mods.rhino.type.TypeInfo;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A <b>recipe component</b> is a reusable definition of a recipe element (such as an in/output item, a fluid, or even just a number value)
@@ -175,6 +176,19 @@ public interface RecipeComponent<T> {
 		return original instanceof Replaceable r && matches(cx, recipe, original, match) ? wrap(cx, recipe, r.replaceThisWith(cx, with)) : original;
 	}
 
+	/**
+	 * Lists everything the given value could match in {@link #matches(Context, KubeRecipe, Object, ReplacementMatchInfo)},
+	 * so the recipe event can skip recipes that can't possibly match a filter. Keys are {@link net.minecraft.world.item.Item}s
+	 * and {@link net.minecraft.world.level.material.Fluid}s.
+	 *
+	 * @param value The value to collect keys from
+	 * @param keys  Consumer of the keys
+	 * @return false if the value may match something that can't be described by keys, in which case the recipe is always checked directly
+	 */
+	default boolean collectMatchKeys(T value, Consumer<Object> keys) {
+		return false;
+	}
+
 	default void validate(T value) {
 		if (isEmpty(value)) {
 			throw new EmptyRecipeComponentValueException(this);
@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -173,6 +174,17 @@ public class RecipeComponentBuilder implements RecipeComponent<Map<RecipeCompone
 		return false;
 	}
 
+	@Override
+	public boolean collectMatchKeys(Map<Key, Value> value, Consumer<Object> keys) {
+		for (var e : value.values()) {
+			if (!e.key.component.collectMatchKeys(Cast.to(e.value), keys)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public Map<Key, Value> replace(Context cx, KubeRecipe recipe, Map<Key, Value> original, ReplacementMatchInfo match, Object with) {
 		var replaced = original;
@@ -11,6 +11,7 @@ import dev.latvian.mods.rhino.Context;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public final class RecipeComponentValue<T> implements WrappedJS, Map.Entry<RecipeKey<T>, T> {
 	public static final RecipeComponentValue<?>[] EMPTY_ARRAY = new RecipeComponentValue[0];
@@ -38,6 +39,10 @@ public final class RecipeComponentValue<T> implements WrappedJS, Map.Entry<Recip
 		return value != null && (match.componentType().isEmpty() || key.component.equals(match.componentType().get())) && key.component.matches(cx, recipe, value, match);
 	}
 
+	public boolean collectMatchKeys(Consumer<Object> keys) {
+		return value == null || key.component.collectMatchKeys(value, keys);
+	}
+
 	public boolean replace(Context cx, KubeRecipe recipe, ReplacementMatchInfo match, Object with) {
 		var newValue = value == null ? null : key.component.replace(cx, recipe, value, match, with);
 
@@ -6,6 +6,8 @@ import dev.latvian.mods.kubejs.recipe.match.ReplacementMatchInfo;
 import dev.latvian.mods.rhino.Context;
 import dev.latvian.mods.rhino.type.TypeInfo;
 
+import java.util.function.Consumer;
+
 /**
  * A recipe component that may delegate most of its logic to a parent component.
  * A common example of using this would be to define a custom item output component
@@ -42,6 +44,11 @@ public interface RecipeComponentWithParent<T> extends RecipeComponent<T> {
 		return parentComponent().matches(cx, recipe, value, match);
 	}
 
+	@Override
+	default boolean collectMatchKeys(T value, Consumer<Object> keys) {
+		return parentComponent().collectMatchKeys(value, keys);
+	}
+
 	@Override
 	default T replace(Context cx, KubeRecipe recipe, T original, ReplacementMatchInfo match, Object with) {
 		return parentComponent().replace(cx, recipe, original, match, with);
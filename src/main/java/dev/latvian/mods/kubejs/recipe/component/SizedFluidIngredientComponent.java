@@ -12,6 +12,8 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
 import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
 
+import java.util.function.Consumer;
+
 public class SizedFluidIngredientComponent implements RecipeComponent<SizedFluidIngredient> {
 	public static final SizedFluidIngredientComponent FLAT = new SizedFluidIngredientComponent("flat_sized_fluid_ingredient", SizedFluidIngredient.FLAT_CODEC);
 	public static final SizedFluidIngredientComponent NESTED = new SizedFluidIngredientComponent("nested_sized_fluid_ingredient", SizedFluidIngredient.NESTED_CODEC);
@@ -44,6 +46,11 @@ public class SizedFluidIngredientComponent implements RecipeComponent<SizedFluid
 		return match.match() instanceof FluidMatch m && m.matches(cx, value.ingredient(), match.exact());
 	}
 
+	@Override
+	public boolean collectMatchKeys(SizedFluidIngredient value, Consumer<Object> keys) {
+		return FluidIngredientComponent.FLUID_INGREDIENT.collectMatchKeys(value.ingredient(), keys);
+	}
+
 	@Override
 	public boolean isEmpty(SizedFluidIngredient value) {
 		return value.amount() <= 0 || value.ingredient().isEmpty();
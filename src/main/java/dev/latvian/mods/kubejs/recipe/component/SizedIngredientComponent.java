@@ -10,6 +10,8 @@ import dev.latvian.mods.rhino.Context;
 import dev.latvian.mods.rhino.type.TypeInfo;
 import net.neoforged.neoforge.common.crafting.SizedIngredient;
 
+import java.util.function.Consumer;
+
 public class SizedIngredientComponent implements RecipeComponent<SizedIngredient> {
 	public static final SizedIngredientComponent FLAT = new SizedIngredientComponent("flat_sized_ingredient", SizedIngredient.FLAT_CODEC);
 	public static final SizedIngredientComponent NESTED = new SizedIngredientComponent("nested_sized_ingredient", SizedIngredient.NESTED_CODEC);
@@ -42,6 +44,11 @@ public class SizedIngredientComponent implements RecipeComponent<SizedIngredient
 		return match.match() instanceof ItemMatch m && m.matches(cx, value.ingredient(), match.exact());
 	}
 
+	@Override
+	public boolean collectMatchKeys(SizedIngredient value, Consumer<Object> keys) {
+		return IngredientComponent.INGREDIENT.collectMatchKeys(value.ingredient(), keys);
+	}
+
 	@Override
 	public boolean isEmpty(SizedIngredient value) {
 		return value.count() <= 0 || value.ingredient().isEmpty();
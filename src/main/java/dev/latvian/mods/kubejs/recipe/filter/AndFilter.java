@@ -20,8 +20,36 @@ public class AndFilter implements RecipeFilter {
 		return true;
 	}
 
+	@Override
+	public int cost() {
+		int cost = 0;
+
+		for (var p : list) {
+			cost += p.cost();
+		}
+
+		return cost;
+	}
+
 	@Override
 	public String toString() {
 		return "AndFilter[" + list + ']';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		AndFilter that = (AndFilter) o;
+		return list.equals(that.list);
+	}
+
+	@Override
+	public int hashCode() {
+		return list.hashCode();
+	}
 }
@@ -12,6 +12,11 @@ public record ConstantFilter(boolean filter) implements RecipeFilter {
 		return filter;
 	}
 
+	@Override
+	public int cost() {
+		return 0;
+	}
+
 	@Override
 	public String toString() {
 		return filter ? "*" : "-";
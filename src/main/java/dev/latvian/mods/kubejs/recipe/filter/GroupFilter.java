@@ -15,10 +15,32 @@ public class GroupFilter implements RecipeFilter {
 		return r.kjs$getGroup().equals(group);
 	}
 
+	@Override
+	public int cost() {
+		return 2;
+	}
+
 	@Override
 	public String toString() {
 		return "GroupFilter{" +
 			"group='" + group + '\'' +
 			'}';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		GroupFilter that = (GroupFilter) o;
+		return group.equals(that.group);
+	}
+
+	@Override
+	public int hashCode() {
+		return group.hashCode();
+	}
 }
@@ -16,10 +16,32 @@ public class IDFilter implements RecipeFilter {
 		return r.kjs$getOrCreateId().equals(id);
 	}
 
+	@Override
+	public int cost() {
+		return 1;
+	}
+
 	@Override
 	public String toString() {
 		return "IDFilter{" +
 			"id=" + id +
 			'}';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		IDFilter that = (IDFilter) o;
+		return id.equals(that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return id.hashCode();
+	}
 }
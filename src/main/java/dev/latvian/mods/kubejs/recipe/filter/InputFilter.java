@@ -10,6 +10,11 @@ public record InputFilter(ReplacementMatchInfo match) implements RecipeFilter {
 		return r.hasInput(cx, match);
 	}
 
+	@Override
+	public int cost() {
+		return 20;
+	}
+
 	@Override
 	public String toString() {
 		return "InputFilter{" + match + '}';
@@ -4,7 +4,7 @@ import dev.latvian.mods.kubejs.core.RecipeLikeKJS;
 import dev.latvian.mods.rhino.Context;
 
 public class ModFilter implements RecipeFilter {
-	private final String mod;
+	public final String mod;
 
 	public ModFilter(String m) {
 		mod = m;
@@ -15,10 +15,32 @@ public class ModFilter implements RecipeFilter {
 		return r.kjs$getMod().equals(mod);
 	}
 
+	@Override
+	public int cost() {
+		return 1;
+	}
+
 	@Override
 	public String toString() {
 		return "ModFilter{" +
 			"mod='" + mod + '\'' +
 			'}';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		ModFilter that = (ModFilter) o;
+		return mod.equals(that.mod);
+	}
+
+	@Override
+	public int hashCode() {
+		return mod.hashCode();
+	}
 }
@@ -9,6 +9,11 @@ public record NotFilter(RecipeFilter original) implements RecipeFilter {
 		return !original.test(cx, r);
 	}
 
+	@Override
+	public int cost() {
+		return original.cost();
+	}
+
 	@Override
 	public String toString() {
 		return "NotFilter{" + original + '}';
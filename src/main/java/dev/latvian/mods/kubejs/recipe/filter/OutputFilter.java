@@ -5,7 +5,7 @@ import dev.latvian.mods.kubejs.recipe.match.ReplacementMatchInfo;
 import dev.latvian.mods.rhino.Context;
 
 public class OutputFilter implements RecipeFilter {
-	private final ReplacementMatchInfo match;
+	public final ReplacementMatchInfo match;
 
 	public OutputFilter(ReplacementMatchInfo match) {
 		this.match = match;
@@ -16,8 +16,30 @@ public class OutputFilter implements RecipeFilter {
 		return r.hasOutput(cx, match);
 	}
 
+	@Override
+	public int cost() {
+		return 20;
+	}
+
 	@Override
 	public String toString() {
 		return "OutputFilter{" + match + '}';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		OutputFilter that = (OutputFilter) o;
+		return match.equals(that.match);
+	}
+
+	@Override
+	public int hashCode() {
+		return match.hashCode();
+	}
 }
@@ -15,13 +15,92 @@ import dev.latvian.mods.rhino.type.TypeInfo;
 import net.neoforged.neoforge.common.NeoForge;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.regex.Pattern;
 
 @FunctionalInterface
 public interface RecipeFilter {
 	boolean test(Context cx, RecipeLikeKJS r);
 
+	/**
+	 * Rough relative cost of testing a single recipe, used to order {@link AndFilter} and {@link OrFilter} children so that cheap checks run first.
+	 */
+	default int cost() {
+		return 50;
+	}
+
 	static RecipeFilter wrap(Context cx, @Nullable Object o) {
+		return optimize(parse(cx, o));
+	}
+
+	/**
+	 * Flattens nested {@link AndFilter} and {@link OrFilter}s, removes duplicates and constant branches, and orders children by {@link #cost()}.
+	 */
+	static RecipeFilter optimize(RecipeFilter filter) {
+		return switch (filter) {
+			case AndFilter f -> optimizeGroup(f.list, true);
+			case OrFilter f -> optimizeGroup(f.list, false);
+			case NotFilter(var original) -> {
+				var o = optimize(original);
+
+				if (o == ConstantFilter.TRUE) {
+					yield ConstantFilter.FALSE;
+				} else if (o == ConstantFilter.FALSE) {
+					yield ConstantFilter.TRUE;
+				} else if (o instanceof NotFilter(var inner)) {
+					yield inner;
+				} else {
+					yield o == original ? filter : new NotFilter(o);
+				}
+			}
+			default -> filter;
+		};
+	}
+
+	private static RecipeFilter optimizeGroup(List<RecipeFilter> list, boolean and) {
+		var set = new LinkedHashSet<RecipeFilter>();
+
+		for (var f : list) {
+			var o = optimize(f);
+
+			if (and && o instanceof AndFilter a) {
+				set.addAll(a.list);
+			} else if (!and && o instanceof OrFilter or) {
+				set.addAll(or.list);
+			} else if (o instanceof ConstantFilter c) {
+				// FALSE in an AndFilter and TRUE in an OrFilter decide the result, the other one can be skipped
+				if (c.filter() != and) {
+					return c;
+				}
+			} else {
+				set.add(o);
+			}
+		}
+
+		if (set.isEmpty()) {
+			return and ? ConstantFilter.TRUE : ConstantFilter.FALSE;
+		} else if (set.size() == 1) {
+			return set.iterator().next();
+		}
+
+		var sorted = new ArrayList<>(set);
+		sorted.sort(Comparator.comparingInt(RecipeFilter::cost));
+
+		if (and) {
+			var result = new AndFilter();
+			result.list.addAll(sorted);
+			return result;
+		} else {
+			var result = new OrFilter();
+			result.list.addAll(sorted);
+			return result;
+		}
+	}
+
+	private static RecipeFilter parse(Context cx, @Nullable Object o) {
 		if (o == null || o == ConstantFilter.TRUE) {
 			return ConstantFilter.TRUE;
 		} else if (o == ConstantFilter.FALSE) {
@@ -49,7 +128,7 @@ public interface RecipeFilter {
 			var predicate = new OrFilter();
 
 			for (var o1 : list) {
-				var p = wrap(cx, o1);
+				var p = parse(cx, o1);
 
 				if (p == ConstantFilter.TRUE) {
 					return ConstantFilter.TRUE;
@@ -70,11 +149,11 @@ public interface RecipeFilter {
 		var predicate = new AndFilter();
 
 		if (map.get("or") != null) {
-			predicate.list.add(wrap(cx, map.get("or")));
+			predicate.list.add(parse(cx, map.get("or")));
 		}
 
 		if (map.get("not") != null) {
-			predicate.list.add(new NotFilter(wrap(cx, map.get("not"))));
+			predicate.list.add(new NotFilter(parse(cx, map.get("not"))));
 		}
 
 		try {
@@ -37,6 +37,11 @@ public class RegexIDFilter implements RecipeFilter {
 		return matchCache.computeIfAbsent(recipe.kjs$getOrCreateId(), location -> pattern.matcher(location.toString()).find());
 	}
 
+	@Override
+	public int cost() {
+		return 5;
+	}
+
 	@Override
 	public String toString() {
 		return "RegexIDFilter{" +
@@ -5,7 +5,7 @@ import dev.latvian.mods.rhino.Context;
 import net.minecraft.resources.ResourceLocation;
 
 public class TypeFilter implements RecipeFilter {
-	private final ResourceLocation type;
+	public final ResourceLocation type;
 
 	public TypeFilter(ResourceLocation t) {
 		type = t;
@@ -16,8 +16,30 @@ public class TypeFilter implements RecipeFilter {
 		return r.kjs$getType().equals(type);
 	}
 
+	@Override
+	public int cost() {
+		return 1;
+	}
+
 	@Override
 	public String toString() {
 		return "TypeFilter{" + type + '}';
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		TypeFilter that = (TypeFilter) o;
+		return type.equals(that.type);
+	}
+
+	@Override
+	public int hashCode() {
+		return type.hashCode();
+	}
 }
@@ -0,0 +1,135 @@
+package dev.latvian.mods.kubejs.recipe.match;
+
+import dev.latvian.mods.kubejs.bindings.IngredientWrapper;
+import dev.latvian.mods.kubejs.ingredient.IngredientItemSet;
+import dev.latvian.mods.kubejs.recipe.CachedItemTagLookup;
+import dev.latvian.mods.kubejs.util.RegistryAccessContainer;
+import dev.latvian.mods.rhino.Context;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Items matched by each distinct {@link Ingredient} during a recipe event, so input and output filters don't expand the same tag for every recipe.
+ * <p>
+ * Tag ingredients are keyed by their tag and resolved with {@link CachedItemTagLookup}, other ingredients are keyed by identity.
+ * Items are stored as {@link IngredientItemSet}s, the same bitsets KubeJS ingredients use.
+ * Ingredients that test more than the item, such as non-simple custom ingredients, aren't cached and are tested stack by stack as before.
+ * <p>
+ * {@link #current} is only set while {@link dev.latvian.mods.kubejs.recipe.RecipesKubeEvent#post} runs.
+ */
+public final class IngredientMatchCache {
+	private static final IngredientItemSet UNCACHED = IngredientItemSet.ofItems(List.of());
+
+	@Nullable
+	public static volatile IngredientMatchCache current;
+
+	/**
+	 * @return cache of the running recipe event, or null if there isn't one for these registries
+	 */
+	@Nullable
+	public static IngredientMatchCache of(Context cx) {
+		var cache = current;
+		return cache != null && cache.registries == RegistryAccessContainer.of(cx) && cache.registries.cachedItemTags != null ? cache : null;
+	}
+
+	public final RegistryAccessContainer registries;
+	private final Map<TagKey<Item>, IngredientItemSet> tagSets;
+	private final Reference2ObjectMap<Ingredient, IngredientItemSet> ingredientSets;
+
+	public IngredientMatchCache(RegistryAccessContainer registries) {
+		this.registries = registries;
+		this.tagSets = new ConcurrentHashMap<>();
+		this.ingredientSets = Reference2ObjectMaps.synchronize(new Reference2ObjectOpenHashMap<>());
+	}
+
+	/**
+	 * @return items matched by <code>in</code>, or null if it can't be represented as a set of items
+	 */
+	@Nullable
+	public IngredientItemSet items(Ingredient in) {
+		var tag = IngredientWrapper.tagKeyOf(in);
+
+		if (tag != null) {
+			return tagSet(tag);
+		}
+
+		var set = ingredientSets.get(in);
+
+		if (set == null) {
+			set = resolve(in);
+			ingredientSets.put(in, set);
+		}
+
+		return set == UNCACHED ? null : set;
+	}
+
+	private IngredientItemSet tagSet(TagKey<Item> tag) {
+		return tagSets.computeIfAbsent(tag, t -> IngredientItemSet.ofItems(registries.cachedItemTags.values(t)));
+	}
+
+	private IngredientItemSet resolve(Ingredient in) {
+		if (in.isCustom() && !in.getCustomIngredient().isSimple()) {
+			return UNCACHED;
+		}
+
+		var items = new ArrayList<Item>();
+
+		if (in.isCustom()) {
+			for (var stack : in.getItems()) {
+				items.add(stack.getItem());
+			}
+		} else {
+			for (var value : in.getValues()) {
+				if (value instanceof Ingredient.TagValue(TagKey<Item> tag)) {
+					items.addAll(registries.cachedItemTags.values(tag));
+				} else {
+					for (var stack : value.getItems()) {
+						items.add(stack.getItem());
+					}
+				}
+			}
+		}
+
+		return IngredientItemSet.ofItems(items);
+	}
+
+	/**
+	 * @return true if <code>in</code> matches the item of <code>stack</code>, or null if <code>in</code> isn't cached or <code>stack</code> is empty
+	 */
+	@Nullable
+	public Boolean test(Ingredient in, ItemStack stack) {
+		if (stack.isEmpty()) {
+			// Ingredient.test matches empty stacks against empty ingredients, which a set of items can't represent
+			return null;
+		}
+
+		var set = items(in);
+		return set == null ? null : set.contains(stack.getItem());
+	}
+
+	/**
+	 * @return true if <code>a</code> and <code>b</code> match at least one common item, or null if either isn't cached
+	 */
+	@Nullable
+	public Boolean intersects(Ingredient a, Ingredient b) {
+		var setA = items(a);
+
+		if (setA == null) {
+			return null;
+		}
+
+		var setB = items(b);
+		return setB == null ? null : setA.intersects(setB);
+	}
+}
@@ -1,6 +1,7 @@
 package dev.latvian.mods.kubejs.recipe.schema;
 
 import com.google.gson.JsonObject;
+import dev.latvian.mods.kubejs.CommonProperties;
 import dev.latvian.mods.kubejs.DevProperties;
 import dev.latvian.mods.kubejs.KubeJS;
 import dev.latvian.mods.kubejs.recipe.KubeRecipe;
@@ -248,6 +249,12 @@ public class RecipeSchema {
 		r.id = id;
 		r.json = json;
 		r.newRecipe = id == null;
+
+		if (!r.newRecipe && json != null && CommonProperties.get().lazyRecipeDeserialization) {
+			r.deferDeserialization();
+			return r;
+		}
+
 		r.originalJson = json == null || id == null ? null : (JsonObject) JsonUtils.copy(json);
 		r.deserialize(false);
 		return r;
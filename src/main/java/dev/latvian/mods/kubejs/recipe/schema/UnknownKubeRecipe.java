@@ -9,6 +9,8 @@ import dev.latvian.mods.rhino.Context;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 
+import java.util.function.Consumer;
+
 public class UnknownKubeRecipe extends KubeRecipe {
 	public static final KubeRecipeFactory RECIPE_FACTORY = new KubeRecipeFactory(KubeJS.id("unknown"), UnknownKubeRecipe.class, UnknownKubeRecipe::new);
 
@@ -46,6 +48,11 @@ public class UnknownKubeRecipe extends KubeRecipe {
 		return false;
 	}
 
+	@Override
+	public boolean collectMatchKeys(boolean output, Consumer<Object> keys) {
+		return false;
+	}
+
 	@Override
 	public boolean replaceInput(Context cx, ReplacementMatchInfo match, Object with) {
 		return false;
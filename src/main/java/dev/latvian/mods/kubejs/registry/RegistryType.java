@@ -23,12 +23,36 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 public record RegistryType<T>(ResourceKey<Registry<T>> key, Class<?> baseClass, TypeInfo type) {
 	private static final Map<ResourceKey<?>, RegistryType<?>> KEY_MAP = new Reference2ObjectOpenHashMap<>();
 	private static final Map<TypeInfo, RegistryType<?>> TYPE_MAP = new HashMap<>();
 	private static final Map<Class<?>, List<RegistryType<?>>> CLASS_MAP = new Reference2ObjectOpenHashMap<>();
+	private static final Object NONE = new Object();
+
+	/**
+	 * Immutable snapshot of registered types, published once the scanner is frozen so lookups don't need to lock.
+	 * Registering a type afterwards publishes a new snapshot.
+	 */
+	private record Tables(Map<ResourceKey<?>, RegistryType<?>> keys, Map<TypeInfo, RegistryType<?>> types, Map<Class<?>, List<RegistryType<?>>> classes, Map<TypeInfo, Object> lookups) {
+		private Tables() {
+			this(new Reference2ObjectOpenHashMap<>(KEY_MAP), new HashMap<>(TYPE_MAP), copyClassMap(), new ConcurrentHashMap<>());
+		}
+
+		private static Map<Class<?>, List<RegistryType<?>>> copyClassMap() {
+			var map = new Reference2ObjectOpenHashMap<Class<?>, List<RegistryType<?>>>(CLASS_MAP.size());
+
+			for (var entry : CLASS_MAP.entrySet()) {
+				map.put(entry.getKey(), List.copyOf(entry.getValue()));
+			}
+
+			return map;
+		}
+	}
+
+	private static volatile Tables tables;
 
 	public static synchronized <T> void register(ResourceKey<Registry<T>> key, TypeInfo type) {
 		var t = new RegistryType<>(key, type.asClass(), type);
@@ -36,44 +60,66 @@ public record RegistryType<T>(ResourceKey<Registry<T>> key, Class<?> baseClass,
 		TYPE_MAP.put(type, t);
 		CLASS_MAP.computeIfAbsent(t.baseClass, c -> new ArrayList<>(1)).add(t);
 
+		if (tables != null) {
+			tables = new Tables();
+		}
+
 		if (DevProperties.get().logRegistryTypes) {
 			KubeJS.LOGGER.info("Registered RegistryType '" + key.location() + "': " + type);
 		}
 	}
 
+	private static Tables tables() {
+		var t = tables;
+		return t == null ? freeze() : t;
+	}
+
+	private static synchronized Tables freeze() {
+		if (tables == null) {
+			Scanner.startIfNotFrozen();
+			tables = new Tables();
+		}
+
+		return tables;
+	}
+
 	@Nullable
-	public static synchronized RegistryType<?> ofKey(ResourceKey<?> key) {
-		return (RegistryType<?>) of(key);
+	public static RegistryType<?> ofKey(ResourceKey<?> key) {
+		return tables().keys.get(key);
 	}
 
 	@Nullable
-	public static synchronized RegistryType<?> ofType(TypeInfo typeInfo) {
-		return (RegistryType<?>) of(typeInfo);
+	public static RegistryType<?> ofType(TypeInfo typeInfo) {
+		return tables().types.get(typeInfo);
 	}
 
 	@Nullable
-	public static synchronized RegistryType<?> ofClass(Class<?> type) {
-		var regList = ((List<RegistryType<?>>) of(type));
-		return regList != null && regList.size() == 1 ? regList.getFirst() : null;
+	public static RegistryType<?> ofClass(Class<?> type) {
+		var regList = allOfClass(type);
+		return regList.size() == 1 ? regList.getFirst() : null;
 	}
 
-	public static synchronized List<RegistryType<?>> allOfClass(Class<?> type) {
-		return (List<RegistryType<?>>) of(type);
+	public static List<RegistryType<?>> allOfClass(Class<?> type) {
+		return tables().classes.getOrDefault(type, List.of());
 	}
 
-	private static synchronized Object of(Object obj) {
-		Scanner.startIfNotFrozen();
-		return switch (obj) {
-			case ResourceKey key -> KEY_MAP.get(key);
-			case Class clazz -> CLASS_MAP.getOrDefault(clazz, List.of());
-			case TypeInfo info -> TYPE_MAP.get(info);
-			default -> List.of();
-		};
+	@Nullable
+	public static RegistryType<?> lookup(TypeInfo target) {
+		var t = tables();
+		var cached = t.lookups.get(target);
+
+		if (cached == null) {
+			var reg = lookup(t, target);
+			cached = reg == null ? NONE : reg;
+			t.lookups.put(target, cached);
+		}
+
+		return cached == NONE ? null : (RegistryType<?>) cached;
 	}
 
 	@Nullable
-	public static synchronized RegistryType<?> lookup(TypeInfo target) {
-		var reg = allOfClass(target.asClass());
+	private static RegistryType<?> lookup(Tables t, TypeInfo target) {
+		var reg = t.classes.getOrDefault(target.asClass(), List.of());
 
 		if (reg.size() == 1) {
 			return reg.getFirst();
@@ -166,7 +212,7 @@ public record RegistryType<T>(ResourceKey<Registry<T>> key, Class<?> baseClass,
 		}
 
 		private static void processKey(ResourceKey key, ParameterizedType paramType, boolean checkIfContains) {
-			if (checkIfContains && RegistryType.ofKey(key) != null) {
+			if (checkIfContains && KEY_MAP.containsKey(key)) {
 				return;
 			}
 			var type = paramType.getActualTypeArguments()[0];
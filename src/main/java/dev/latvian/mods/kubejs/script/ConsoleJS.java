@@ -2,15 +2,14 @@ package dev.latvian.mods.kubejs.script;
 
 import dev.latvian.apps.tinyserver.http.response.HTTPResponse;
 import dev.latvian.apps.tinyserver.ws.WSHandler;
+import dev.latvian.mods.kubejs.CommonProperties;
 import dev.latvian.mods.kubejs.DevProperties;
-import dev.latvian.mods.kubejs.bindings.StringUtilsWrapper;
 import dev.latvian.mods.kubejs.bindings.TextIcons;
 import dev.latvian.mods.kubejs.error.KubeRuntimeException;
 import dev.latvian.mods.kubejs.util.JSObjectType;
 import dev.latvian.mods.kubejs.util.LogType;
 import dev.latvian.mods.kubejs.util.MutedError;
 import dev.latvian.mods.kubejs.util.StackTraceCollector;
-import dev.latvian.mods.kubejs.util.TimeJS;
 import dev.latvian.mods.kubejs.util.UtilsJS;
 import dev.latvian.mods.kubejs.util.WrappedJS;
 import dev.latvian.mods.kubejs.web.JsonContent;
@@ -30,19 +29,15 @@ import org.slf4j.Logger;
 
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -84,8 +79,7 @@ public class ConsoleJS {
 	private boolean muted;
 	private boolean debugEnabled;
 	private boolean writeToFile;
-	private final List<String> writeQueue;
-	private final Calendar calendar;
+	private final ConsoleLogWriter logWriter;
 	public WeakReference<ContextFactory> contextFactory;
 	public WSHandler<KJSHTTPRequest, KJSWSSession> wsBroadcaster;
 
@@ -100,8 +94,8 @@ public class ConsoleJS {
 		this.muted = false;
 		this.debugEnabled = false;
 		this.writeToFile = true;
-		this.writeQueue = new LinkedList<>();
-		this.calendar = Calendar.getInstance();
+		// Consoles created by scripts share the log file, and with it the writer, of their script type's console
+		this.logWriter = m.console == null ? new ConsoleLogWriter(log, logFile, CommonProperties.get().consoleLogBufferSize) : m.console.logWriter;
 	}
 
 	public Logger getLogger() {
@@ -164,13 +158,25 @@ public class ConsoleJS {
 		errors.clear();
 		warnings.clear();
 		KubeJSWeb.broadcastEvent(wsBroadcaster, "clear", "", null);
-		scriptType.executor.execute(() -> {
-			try {
-				Files.write(logFile, List.of());
-			} catch (Exception ex) {
-				logger.error("Failed to clear the log file: " + ex);
+		scriptType.executor.execute(logWriter::clearFile);
+	}
+
+	/**
+	 * Drops captured errors and warnings of the given script files, used when only one pack is reloaded
+	 */
+	public synchronized void removeLinesFrom(Set<String> sources) {
+		Predicate<ConsoleLine> fromSources = line -> {
+			for (var sourceLine : line.sourceLines) {
+				if (sources.contains(sourceLine.source())) {
+					return true;
+				}
 			}
-		});
+
+			return false;
+		};
+
+		errors.removeIf(fromSources);
+		warnings.removeIf(fromSources);
 	}
 
 	private ConsoleLine line(LogType type, SourceLine sourceLine, Object object, @Nullable Throwable error) {
@@ -264,61 +270,40 @@ public class ConsoleJS {
 		return null;
 	}
 
-	public synchronized void writeToFile(LogType type, String line) {
+	public void writeToFile(LogType type, String line) {
 		writeToFile(type, System.currentTimeMillis(), line);
 	}
 
-	public synchronized void writeToFile(LogType type, long timestamp, String line) {
+	public void writeToFile(LogType type, long timestamp, String line) {
 		if (!writeToFile || PlatformWrapper.isGeneratingData()) {
 			return;
 		}
 
-		calendar.setTimeInMillis(timestamp);
-		var sb = new StringBuilder();
-
-		sb.append('[');
-		TimeJS.appendTimestamp(sb, calendar);
-		sb.append(']');
-		sb.append(' ');
-		sb.append('[');
-		sb.append(type);
-		sb.append(']');
-		sb.append(' ');
-
-		if (type == LogType.ERROR) {
-			sb.append('!');
-			sb.append(' ');
-		}
-
-		sb.append(line);
-		writeQueue.add(sb.toString());
+		logWriter.write(type, timestamp, line);
 	}
 
-	public synchronized void flush(boolean sync) {
-		if (writeQueue.isEmpty()) {
-			return;
-		}
-
-		var lines = Arrays.asList(writeQueue.toArray(StringUtilsWrapper.EMPTY_STRING_ARRAY));
-		writeQueue.clear();
-
+	public void flush(boolean sync) {
 		if (sync) {
-			try {
-				Files.write(logFile, lines, StandardOpenOption.APPEND);
-			} catch (Exception ex) {
-				logger.error("Failed to write to the log file: " + ex);
-			}
+			logWriter.flush();
 		} else {
-			scriptType.executor.execute(() -> {
-				try {
-					Files.write(logFile, lines, StandardOpenOption.APPEND);
-				} catch (Exception ex) {
-					logger.error("Failed to write to the log file: " + ex);
-				}
-			});
+			scriptType.executor.execute(logWriter::flush);
 		}
 	}
 
+	/**
+	 * Writes buffered lines and closes the log file, it is opened again if anything is logged afterwards
+	 */
+	public void closeLog() {
+		logWriter.close();
+	}
+
+	/**
+	 * @return number of lines that didn't make it to the log file because the log buffer was full
+	 */
+	public long getDroppedLogLines() {
+		return logWriter.getDroppedLines();
+	}
+
 	public void log(Object... message) {
 		for (var s : message) {
 			info(s);
@@ -0,0 +1,218 @@
+package dev.latvian.mods.kubejs.script;
+
+import dev.latvian.mods.kubejs.CommonProperties;
+import dev.latvian.mods.kubejs.util.LogType;
+import dev.latvian.mods.kubejs.util.TimeJS;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers log file lines in a bounded multi-producer, single-consumer ring buffer.
+ * Logging threads only claim a slot, formatting and writing happen in {@link #flush()}.
+ * <p>
+ * When the buffer is full, <code>console_log_overflow</code> in the common properties decides what happens -
+ * <code>block</code> makes the logging thread flush the buffer itself, <code>drop</code> discards the line and counts it.
+ */
+public class ConsoleLogWriter {
+	private record Entry(LogType type, long timestamp, String line) {
+	}
+
+	private final Logger logger;
+	private final Path file;
+	private final Entry[] buffer;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong tail;
+	private final LongAdder dropped;
+	private long head;
+	private long reportedDropped;
+	private final Calendar calendar;
+	private final StringBuilder builder;
+	private FileChannel channel;
+
+	public ConsoleLogWriter(Logger logger, Path file, int capacity) {
+		this.logger = logger;
+		this.file = file;
+		this.buffer = new Entry[Integer.highestOneBit(Math.max(16, Math.min(capacity, 1 << 20)) * 2 - 1)];
+		this.sequences = new AtomicLongArray(buffer.length);
+		this.mask = buffer.length - 1;
+		this.tail = new AtomicLong();
+		this.dropped = new LongAdder();
+		this.head = 0L;
+		this.reportedDropped = 0L;
+		this.calendar = Calendar.getInstance();
+		this.builder = new StringBuilder();
+		this.channel = null;
+
+		for (int i = 0; i < buffer.length; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	public void write(LogType type, long timestamp, String line) {
+		var entry = new Entry(type, timestamp, line);
+
+		if (offer(entry)) {
+			return;
+		}
+
+		if (CommonProperties.get().consoleLogOverflow.equals("block")) {
+			flush();
+
+			if (offer(entry)) {
+				return;
+			}
+		}
+
+		dropped.increment();
+	}
+
+	public long getDroppedLines() {
+		return dropped.sum();
+	}
+
+	private boolean offer(Entry entry) {
+		long pos = tail.get();
+
+		while (true) {
+			int index = (int) (pos & mask);
+			long diff = sequences.get(index) - pos;
+
+			if (diff == 0L) {
+				if (tail.compareAndSet(pos, pos + 1L)) {
+					buffer[index] = entry;
+					sequences.set(index, pos + 1L);
+					return true;
+				}
+
+				pos = tail.get();
+			} else if (diff < 0L) {
+				return false;
+			} else {
+				pos = tail.get();
+			}
+		}
+	}
+
+	@Nullable
+	private Entry poll() {
+		int index = (int) (head & mask);
+
+		if (sequences.get(index) != head + 1L) {
+			return null;
+		}
+
+		var entry = buffer[index];
+		buffer[index] = null;
+		sequences.set(index, head + mask + 1L);
+		head++;
+		return entry;
+	}
+
+	/**
+	 * Writes all buffered lines to the log file. Safe to call from any thread, only one thread drains the buffer at a time.
+	 */
+	public synchronized void flush() {
+		var entry = poll();
+		long droppedNow = dropped.sum();
+
+		if (entry == null && droppedNow == reportedDropped) {
+			return;
+		}
+
+		builder.setLength(0);
+
+		if (droppedNow != reportedDropped) {
+			append(LogType.WARN, System.currentTimeMillis(), (droppedNow - reportedDropped) + " log lines were dropped because the log buffer was full");
+			reportedDropped = droppedNow;
+		}
+
+		while (entry != null) {
+			append(entry.type, entry.timestamp, entry.line);
+			entry = poll();
+		}
+
+		try {
+			if (channel == null) {
+				channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			}
+
+			var bytes = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+
+			while (bytes.hasRemaining()) {
+				channel.write(bytes);
+			}
+		} catch (Exception ex) {
+			logger.error("Failed to write to the log file: " + ex);
+			closeChannel();
+		}
+
+		if (builder.length() > 65536) {
+			builder.setLength(0);
+			builder.trimToSize();
+		}
+	}
+
+	/**
+	 * Clears the log file. Lines still in the buffer are written after clearing.
+	 */
+	public synchronized void clearFile() {
+		try {
+			if (channel == null) {
+				channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+			}
+
+			channel.truncate(0L);
+		} catch (Exception ex) {
+			logger.error("Failed to clear the log file: " + ex);
+			closeChannel();
+		}
+	}
+
+	public synchronized void close() {
+		flush();
+		closeChannel();
+	}
+
+	private void closeChannel() {
+		if (channel != null) {
+			try {
+				channel.close();
+			} catch (Exception ignored) {
+			}
+
+			channel = null;
+		}
+	}
+
+	private void append(LogType type, long timestamp, String line) {
+		calendar.setTimeInMillis(timestamp);
+
+		builder.append('[');
+		TimeJS.appendTimestamp(builder, calendar);
+		builder.append(']');
+		builder.append(' ');
+		builder.append('[');
+		builder.append(type);
+		builder.append(']');
+		builder.append(' ');
+
+		if (type == LogType.ERROR) {
+			builder.append('!');
+			builder.append(' ');
+		}
+
+		builder.append(line);
+		builder.append(System.lineSeparator());
+	}
+}
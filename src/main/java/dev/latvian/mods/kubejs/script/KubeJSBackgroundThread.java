@@ -33,7 +33,7 @@ public class KubeJSBackgroundThread extends Thread {
 		}
 
 		for (var type : types) {
-			type.console.flush(true);
+			type.console.closeLog();
 			((ExecutorService) type.executor).shutdown();
 
 			boolean b;
@@ -1,56 +1,115 @@
 package dev.latvian.mods.kubejs.script;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
+/**
+ * Watches script directories for created, modified and deleted scripts.
+ * Changes are collected until no new ones arrive for {@link #DEBOUNCE_MS}, so that editors saving several files at once only trigger one reload.
+ */
 public class KubeJSFileWatcherThread extends Thread {
+	public static final long DEBOUNCE_MS = 300L;
+
+	public static boolean isScript(Path path) {
+		var name = path.getFileName().toString();
+		return name.endsWith(".js") || name.endsWith(".ts") && !name.endsWith(".d.ts");
+	}
+
 	public final ScriptType scriptType;
-	public final ScriptFile[] files;
-	public final Runnable reload;
+	public final Path[] directories;
+	public final Predicate<Set<Path>> reload;
 
-	public KubeJSFileWatcherThread(ScriptType scriptType, ScriptFile[] files, Runnable reload) {
+	/**
+	 * @param reload called with changed scripts and directories, returns false if none of the changes need a reload
+	 */
+	public KubeJSFileWatcherThread(ScriptType scriptType, Path[] directories, Predicate<Set<Path>> reload) {
 		super("KubeJS File Watcher");
 		setDaemon(true);
 		this.scriptType = scriptType;
-		this.files = files;
+		this.directories = directories;
 		this.reload = reload;
 	}
 
 	@Override
 	public void run() {
-		scriptType.console.info("#%08X Started watching %d files".formatted(hashCode(), files.length));
+		try (var watcher = FileSystems.getDefault().newWatchService()) {
+			var keys = new HashMap<WatchKey, Path>();
 
-		try {
-			Thread.sleep(3000);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
-		}
-
-		while (scriptType.fileWatcherThread == this) {
-			try {
-				Thread.sleep(1000);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
+			for (var dir : directories) {
+				register(watcher, keys, dir);
 			}
 
-			boolean changed = false;
+			scriptType.console.info("#%08X Started watching %d directories".formatted(hashCode(), keys.size()));
+
+			var changed = new HashSet<Path>();
 
-			for (var file : files) {
-				try {
-					var ms = Files.getLastModifiedTime(file.info.path).toMillis();
+			while (scriptType.fileWatcherThread == this) {
+				var key = changed.isEmpty() ? watcher.poll(1L, TimeUnit.SECONDS) : watcher.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
 
-					if (file.lastModified != ms) {
-						file.lastModified = ms;
-						changed = true;
+				if (key == null) {
+					if (!changed.isEmpty() && scriptType.fileWatcherThread == this) {
+						if (reload.test(Set.copyOf(changed))) {
+							scriptType.console.info("#%08X File change detected, reloading scripts...".formatted(hashCode()));
+							return;
+						}
+
+						changed.clear();
 					}
-				} catch (IOException ex) {
+
+					continue;
+				}
+
+				var dir = keys.get(key);
+
+				for (var event : key.pollEvents()) {
+					if (dir == null) {
+						continue;
+					} else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						changed.add(dir);
+						continue;
+					}
+
+					var path = dir.resolve((Path) event.context());
+
+					if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+						// A directory moved in may already contain scripts
+						register(watcher, keys, path);
+						changed.add(path);
+					} else if (isScript(path) || event.kind() == StandardWatchEventKinds.ENTRY_DELETE && keys.containsValue(path)) {
+						changed.add(path);
+					}
+				}
+
+				if (!key.reset()) {
+					keys.remove(key);
 				}
 			}
+		} catch (InterruptedException ignored) {
+		} catch (Exception ex) {
+			scriptType.console.error("#%08X File watcher stopped".formatted(hashCode()), ex);
+		}
+	}
+
+	private void register(WatchService watcher, Map<WatchKey, Path> keys, Path root) throws IOException {
+		if (Files.notExists(root)) {
+			return;
+		}
 
-			if (changed) {
-				scriptType.console.info("#%08X File change detected, reloading scripts...".formatted(hashCode()));
-				reload.run();
-				return;
+		try (var stream = Files.walk(root, 10, FileVisitOption.FOLLOW_LINKS)) {
+			for (var dir : stream.filter(Files::isDirectory).toList()) {
+				keys.put(dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE), dir);
 			}
 		}
 	}
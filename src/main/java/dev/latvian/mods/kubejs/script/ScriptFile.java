@@ -2,12 +2,16 @@ package dev.latvian.mods.kubejs.script;
 
 import dev.latvian.mods.kubejs.CommonProperties;
 import dev.latvian.mods.kubejs.bindings.StringUtilsWrapper;
+import dev.latvian.mods.rhino.Script;
 import net.neoforged.fml.ModList;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +20,17 @@ import java.util.regex.Pattern;
 public class ScriptFile implements Comparable<ScriptFile> {
 	private static final Pattern PROPERTY_PATTERN = Pattern.compile("^(\\w+)\\s*[:=]?\\s*(-?\\w+)$");
 
+	public static String contentHash(String[] lines) throws Exception {
+		var digest = MessageDigest.getInstance("SHA-256");
+
+		for (var line : lines) {
+			digest.update(line.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '\n');
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
 	public final ScriptPack pack;
 	public final ScriptFileInfo info;
 
@@ -26,6 +41,7 @@ public class ScriptFile implements Comparable<ScriptFile> {
 	private final Set<String> requiredMods;
 	public String[] lines;
 	public long lastModified;
+	public final String contentHash;
 
 	public ScriptFile(ScriptPack pack, ScriptFileInfo info) throws Exception {
 		this.pack = pack;
@@ -39,6 +55,8 @@ public class ScriptFile implements Comparable<ScriptFile> {
 
 		this.lines = Files.readAllLines(info.path).toArray(StringUtilsWrapper.EMPTY_STRING_ARRAY);
 
+		this.contentHash = contentHash(lines);
+
 		try {
 			this.lastModified = Files.getLastModifiedTime(this.info.path).toMillis();
 		} catch (Exception ex) {
@@ -67,9 +85,14 @@ public class ScriptFile implements Comparable<ScriptFile> {
 		this.requiredMods.addAll(getProperties("requires"));
 	}
 
-	public void load(KubeJSContext cx) throws Throwable {
-		cx.evaluateString(cx.topLevelScope, String.join("\n", lines), info.location, 1, null);
+	public Script compile(KubeJSContext cx) {
+		var script = cx.compileString(String.join("\n", lines), info.location, 1, null);
 		lines = StringUtilsWrapper.EMPTY_STRING_ARRAY; // free memory
+		return script;
+	}
+
+	public void load(KubeJSContext cx) throws Throwable {
+		compile(cx).exec(cx, cx.topLevelScope);
 	}
 
 	public List<String> getProperties(String s) {
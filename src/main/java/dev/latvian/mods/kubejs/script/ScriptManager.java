@@ -3,6 +3,8 @@ package dev.latvian.mods.kubejs.script;
 import com.google.gson.JsonObject;
 import dev.latvian.mods.kubejs.DevProperties;
 import dev.latvian.mods.kubejs.KubeJS;
+import dev.latvian.mods.kubejs.bindings.StringUtilsWrapper;
+import dev.latvian.mods.kubejs.event.EventGroups;
 import dev.latvian.mods.kubejs.plugin.ClassFilter;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugin;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
@@ -17,9 +19,13 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 public class ScriptManager {
 	public final ScriptType scriptType;
@@ -111,6 +117,7 @@ public class ScriptManager {
 		}
 
 		var pack = new ScriptPack(this, new ScriptPackInfo(path.getFileName().toString(), ""));
+		pack.directory = path;
 
 		if (Files.exists(path)) {
 			collectScripts(pack, path, "");
@@ -168,29 +175,9 @@ public class ScriptManager {
 		var t = 0;
 
 		var cx = (KubeJSContext) contextFactory.enter();
-
-		var watchingFiles = new ArrayList<ScriptFile>();
-
 		for (var pack : packs.values()) {
-			try {
-				pack.scripts.sort(null);
-
-				for (var file : pack.scripts) {
-					t++;
-					var start = System.currentTimeMillis();
-
-					try {
-						file.load(cx);
-						i++;
-						scriptType.console.info("Loaded script " + file.info.location + " in " + (System.currentTimeMillis() - start) / 1000D + " s");
-						watchingFiles.add(file);
-					} catch (Throwable ex) {
-						scriptType.console.error("", ex);
-					}
-				}
-			} catch (Throwable ex) {
-				scriptType.console.error("Failed to read script pack " + pack.info.namespace, ex);
-			}
+			t += pack.scripts.size();
+			i += loadPack(cx, pack);
 		}
 
 		loadAdditional();
@@ -199,11 +186,8 @@ public class ScriptManager {
 
 		scriptType.console.info("Loaded " + i + "/" + t + " KubeJS " + scriptType.name + " scripts in " + ms / 1000D + " s with " + scriptType.console.errors.size() + " errors and " + scriptType.console.warnings.size() + " warnings");
 		canListenEvents = false;
-
-		if (!watchingFiles.isEmpty() && DevProperties.get().reloadOnFileSave) {
-			scriptType.fileWatcherThread = new KubeJSFileWatcherThread(scriptType, watchingFiles.toArray(new ScriptFile[0]), this::fullReload);
-			scriptType.fileWatcherThread.start();
-		}
+		freezeEventHandlers();
+		startFileWatcher();
 
 		int t1 = t;
 		int i1 = i;
@@ -221,6 +205,190 @@ public class ScriptManager {
 		});
 	}
 
+	/**
+	 * Compiles and executes scripts of a pack, logging compile and execute time of each script separately.
+	 */
+	private int loadPack(KubeJSContext cx, ScriptPack pack) {
+		int i = 0;
+
+		try {
+			pack.scripts.sort(null);
+
+			for (var file : pack.scripts) {
+				var start = System.nanoTime();
+
+				try {
+					var script = file.compile(cx);
+					var compiled = System.nanoTime();
+					script.exec(cx, cx.topLevelScope);
+					var end = System.nanoTime();
+					i++;
+					scriptType.console.info("Loaded script %s in %.3f s (compiled in %.3f s, executed in %.3f s)".formatted(file.info.location, (end - start) / 1_000_000_000D, (compiled - start) / 1_000_000_000D, (end - compiled) / 1_000_000_000D));
+				} catch (Throwable ex) {
+					scriptType.console.error("", ex);
+				}
+			}
+		} catch (Throwable ex) {
+			scriptType.console.error("Failed to read script pack " + pack.info.namespace, ex);
+		}
+
+		return i;
+	}
+
+	private void freezeEventHandlers() {
+		for (var group : EventGroups.ALL.get().map().values()) {
+			for (var handler : group.getHandlers().values()) {
+				handler.freeze();
+			}
+		}
+	}
+
+	private void startFileWatcher() {
+		if (!DevProperties.get().reloadOnFileSave) {
+			return;
+		}
+
+		var dirs = packs.values().stream().map(p -> p.directory).filter(Objects::nonNull).toArray(Path[]::new);
+
+		if (dirs.length > 0) {
+			// Snapshot of loaded scripts taken on this thread, packs and their scripts are replaced on reload while the watcher thread is running
+			var hashes = new HashMap<Path, String>();
+			var directories = new LinkedHashMap<Path, String>();
+
+			for (var pack : packs.values()) {
+				if (pack.directory != null) {
+					directories.put(pack.directory, pack.info.namespace);
+				}
+
+				for (var file : pack.scripts) {
+					hashes.put(file.info.path, file.contentHash);
+				}
+			}
+
+			var snapshot = new LoadedScripts(Map.copyOf(hashes), directories);
+			scriptType.fileWatcherThread = new KubeJSFileWatcherThread(scriptType, dirs, changed -> scriptsChanged(snapshot, changed));
+			scriptType.fileWatcherThread.start();
+		}
+	}
+
+	private record LoadedScripts(Map<Path, String> hashes, Map<Path, String> directories) {
+	}
+
+	/**
+	 * Called from the file watcher thread, only reads the snapshot of loaded scripts and passes affected pack names to the main thread
+	 *
+	 * @return false if all changed files have the same content as the loaded ones
+	 */
+	private boolean scriptsChanged(LoadedScripts loaded, Set<Path> changed) {
+		var affected = new LinkedHashSet<String>();
+
+		for (var path : changed) {
+			var hash = loaded.hashes.get(path);
+
+			if (hash != null && Files.isRegularFile(path)) {
+				try {
+					if (hash.equals(ScriptFile.contentHash(Files.readAllLines(path).toArray(StringUtilsWrapper.EMPTY_STRING_ARRAY)))) {
+						continue;
+					}
+				} catch (Exception ignored) {
+				}
+			}
+
+			boolean known = false;
+
+			for (var entry : loaded.directories.entrySet()) {
+				if (path.startsWith(entry.getKey())) {
+					affected.add(entry.getValue());
+					known = true;
+				}
+			}
+
+			if (!known) {
+				// Not inside any known pack, play it safe
+				affected.addAll(loaded.directories.values());
+			}
+		}
+
+		if (affected.isEmpty()) {
+			return false;
+		}
+
+		if (affected.size() == 1 && DevProperties.get().incrementalScriptReload && !scriptType.isServer()) {
+			var namespace = affected.iterator().next();
+
+			KubeJS.PROXY.runInMainThread(() -> {
+				var pack = packs.get(namespace);
+
+				if (pack == null) {
+					reload();
+				} else {
+					reloadPack(pack);
+				}
+			});
+		} else {
+			fullReload();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Unloads event listeners registered by scripts of a single pack and loads the pack again, leaving other packs untouched.
+	 * <p>
+	 * Scripts of the reloaded pack are evaluated in a new scope, so this is only safe when packs don't share top-level declarations.
+	 * It's enabled with <code>incremental_script_reload</code> in dev properties and never used for server scripts, which need /reload anyway.
+	 */
+	public void reloadPack(ScriptPack pack) {
+		if (pack.directory == null || packs.get(pack.info.namespace) != pack) {
+			reload();
+			return;
+		}
+
+		// Same plugin hooks as a full reload, so plugins that cache state or register bindings in them stay consistent
+		KubeJSPlugins.forEachPlugin(KubeJSPlugin::clearCaches);
+
+		long start = System.currentTimeMillis();
+		var sources = new HashSet<String>();
+
+		for (var file : pack.info.scripts) {
+			sources.add(file.location);
+		}
+
+		scriptType.console.removeLinesFrom(sources);
+
+		for (var group : EventGroups.ALL.get().map().values()) {
+			for (var handler : group.getHandlers().values()) {
+				handler.removeListeners(scriptType, c -> sources.contains(c.source));
+			}
+		}
+
+		if (Files.exists(pack.directory)) {
+			loadPackFromDirectory(pack.directory, pack.info.namespace, false);
+		} else {
+			packs.remove(pack.info.namespace);
+		}
+
+		var newPack = packs.get(pack.info.namespace);
+		int i = 0;
+		int t = 0;
+
+		KubeJSPlugins.forEachPlugin(this, KubeJSPlugin::beforeScriptsLoaded);
+
+		if (newPack != null) {
+			canListenEvents = true;
+			var cx = (KubeJSContext) contextFactory.enter();
+			t = newPack.scripts.size();
+			i = loadPack(cx, newPack);
+			canListenEvents = false;
+		}
+
+		KubeJSPlugins.forEachPlugin(this, KubeJSPlugin::afterScriptsLoaded);
+
+		freezeEventHandlers();
+		scriptType.console.info("Reloaded " + i + "/" + t + " scripts of pack " + pack.info.namespace + " in " + (System.currentTimeMillis() - start) / 1000D + " s");
+		startFileWatcher();
+	}
+
 	public void loadAdditional() {
 	}
 
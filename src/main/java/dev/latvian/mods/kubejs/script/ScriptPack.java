@@ -1,5 +1,6 @@
 package dev.latvian.mods.kubejs.script;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,10 +8,12 @@ public class ScriptPack {
 	public final ScriptManager manager;
 	public final ScriptPackInfo info;
 	public final List<ScriptFile> scripts;
+	public Path directory;
 
 	public ScriptPack(ScriptManager m, ScriptPackInfo i) {
 		manager = m;
 		info = i;
 		scripts = new ArrayList<>();
+		directory = null;
 	}
 }
\ No newline at end of file
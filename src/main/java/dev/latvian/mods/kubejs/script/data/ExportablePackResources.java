@@ -1,14 +1,14 @@
 package dev.latvian.mods.kubejs.script.data;
 
+import dev.latvian.mods.kubejs.util.ExportWriter;
 import net.minecraft.server.packs.PackResources;
 
 import java.io.IOException;
-import java.nio.file.Path;
 
 public interface ExportablePackResources extends PackResources {
 	default String exportPath() {
 		return packId();
 	}
 
-	void export(Path root) throws IOException;
+	void export(ExportWriter writer) throws IOException;
 }
@@ -0,0 +1,160 @@
+package dev.latvian.mods.kubejs.script.data;
+
+import dev.latvian.mods.kubejs.KubeJS;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches directory listings and file contents of <code>kubejs/data</code> and <code>kubejs/assets</code> across reloads.
+ * <p>
+ * Directories are only listed again when their modification time changes, and files are only read again when modification time or size changes.
+ * File bytes are kept across reloads through a {@link SoftReference}, so the garbage collector can drop them under memory pressure,
+ * and files larger than {@link #MAX_CACHED_SIZE} aren't held at all. Entries of changed files are replaced, and everything is released by {@link #clearAll()} when the server stops.
+ * Symbolic links to directories aren't followed, same as {@link Files#walk(Path, java.nio.file.FileVisitOption...)}.
+ * Files are read into heap arrays rather than memory-mapped, because mapped files stay locked on Windows and can't be edited while the game is running.
+ */
+public final class KubeFileContentStore {
+	public static final long MAX_CACHED_SIZE = 1024L * 1024L;
+
+	private static final Map<Path, KubeFileContentStore> STORES = new ConcurrentHashMap<>();
+
+	public static KubeFileContentStore of(Path root) {
+		return STORES.computeIfAbsent(root.toAbsolutePath().normalize(), KubeFileContentStore::new);
+	}
+
+	public static void clearAll() {
+		STORES.clear();
+	}
+
+	private record Listing(long modified, List<Path> files, List<Path> directories) {
+	}
+
+	public static final class Content implements Supplier<byte[]> {
+		public final Path path;
+		public final long modified;
+		public final long size;
+		private volatile SoftReference<byte[]> bytes;
+
+		private Content(Path path, long modified, long size) {
+			this.path = path;
+			this.modified = modified;
+			this.size = size;
+		}
+
+		@Override
+		public byte[] get() {
+			var ref = bytes;
+			var b = ref == null ? null : ref.get();
+
+			if (b == null) {
+				try {
+					b = Files.readAllBytes(path);
+				} catch (Exception ex) {
+					KubeJS.LOGGER.error("Failed to read " + path, ex);
+					return new byte[0];
+				}
+
+				if (b.length <= MAX_CACHED_SIZE) {
+					bytes = new SoftReference<>(b);
+				}
+			}
+
+			return b;
+		}
+
+		public boolean isLoaded() {
+			var ref = bytes;
+			return ref != null && ref.get() != null;
+		}
+	}
+
+	public final Path root;
+	private final Map<Path, Listing> listings;
+	private final Map<Path, Content> contents;
+
+	private KubeFileContentStore(Path root) {
+		this.root = root;
+		this.listings = new ConcurrentHashMap<>();
+		this.contents = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Lists regular, readable files in <code>dir</code> and its subdirectories, reusing cached listings of unchanged directories.
+	 */
+	public List<Path> walk(Path dir) throws IOException {
+		var files = new ArrayList<Path>();
+		walk(dir, files);
+		return files;
+	}
+
+	private void walk(Path dir, List<Path> files) throws IOException {
+		long modified = Files.getLastModifiedTime(dir).toMillis();
+		var listing = listings.get(dir);
+
+		if (listing == null || listing.modified != modified) {
+			var dirFiles = new ArrayList<Path>();
+			var dirs = new ArrayList<Path>();
+
+			try (var stream = Files.list(dir)) {
+				for (var path : stream.toList()) {
+					if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+						dirs.add(path);
+					} else if (Files.isRegularFile(path) && Files.isReadable(path)) {
+						dirFiles.add(path);
+					}
+				}
+			}
+
+			listing = new Listing(modified, List.copyOf(dirFiles), List.copyOf(dirs));
+			listings.put(dir, listing);
+		}
+
+		files.addAll(listing.files);
+
+		for (var d : listing.directories) {
+			if (Files.isDirectory(d, LinkOption.NOFOLLOW_LINKS)) {
+				walk(d, files);
+			}
+		}
+	}
+
+	/**
+	 * @return contents of <code>file</code>, shared with previous reloads if its modification time and size are unchanged
+	 */
+	public Content get(Path file) throws IOException {
+		var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		long modified = attributes.lastModifiedTime().toMillis();
+		long size = attributes.size();
+		var content = contents.get(file);
+
+		if (content == null || content.modified != modified || content.size != size) {
+			content = new Content(file, modified, size);
+			contents.put(file, content);
+		}
+
+		return content;
+	}
+
+	/**
+	 * Drops cached files and directories that no longer exist.
+	 */
+	public void prune() {
+		listings.keySet().removeIf(Files::notExists);
+		contents.keySet().removeIf(Files::notExists);
+	}
+
+	public void clear() {
+		listings.clear();
+		contents.clear();
+	}
+}
@@ -23,15 +23,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 public class KubeFileResourcePack implements PackResources {
@@ -100,6 +103,17 @@ public class KubeFileResourcePack implements PackResources {
 		return packs.size();
 	}
 
+	/**
+	 * Resources under <code>path</code> as a range query on a namespace's sorted path map, instead of checking every path.
+	 */
+	public static Collection<GeneratedData> listPrefix(NavigableMap<String, GeneratedData> paths, String path) {
+		if (!path.endsWith("/")) {
+			path = path + "/";
+		}
+
+		return paths.subMap(path, true, path + Character.MAX_VALUE, false).values();
+	}
+
 	public static void scanAndLoad(Path path, List<PackResources> packs) {
 		for (var file : Objects.requireNonNull(path.toFile().listFiles())) {
 			var fileName = file.getName();
@@ -124,9 +138,30 @@ public class KubeFileResourcePack implements PackResources {
 		}
 	}
 
+	/**
+	 * Generated files with their namespaces and a path index for {@link #listResources}, built together and published as one immutable object,
+	 * since resources are listed from parallel background loaders while {@link #close()} may drop them
+	 */
+	private record Generated(Map<ResourceLocation, GeneratedData> files, Set<String> namespaces, Map<String, NavigableMap<String, GeneratedData>> paths) {
+		private static Generated of(Map<ResourceLocation, GeneratedData> files) {
+			var namespaces = new HashSet<String>();
+			var paths = new HashMap<String, NavigableMap<String, GeneratedData>>();
+
+			for (var data : files.values()) {
+				namespaces.add(data.id().getNamespace());
+				paths.computeIfAbsent(data.id().getNamespace(), k -> new TreeMap<>()).put(data.id().getPath(), data);
+			}
+
+			for (var entry : paths.entrySet()) {
+				entry.setValue(Collections.unmodifiableNavigableMap(entry.getValue()));
+			}
+
+			return new Generated(Map.copyOf(files), Set.copyOf(namespaces), Map.copyOf(paths));
+		}
+	}
+
 	private final PackType packType;
-	private Map<ResourceLocation, GeneratedData> generated;
-	private Set<String> generatedNamespaces;
+	private volatile Generated generated;
 
 	public KubeFileResourcePack(PackType t) {
 		packType = t;
@@ -143,66 +178,79 @@ public class KubeFileResourcePack implements PackResources {
 	}
 
 	public Map<ResourceLocation, GeneratedData> getGenerated() {
-		if (generated == null) {
-			generated = new HashMap<>();
-			generate(generated);
+		return generated().files();
+	}
 
-			boolean debug = DevProperties.get().logGeneratedData;
+	private Generated generated() {
+		var g = generated;
 
-			try {
-				var root = KubeJSPaths.get(packType);
+		if (g == null) {
+			synchronized (this) {
+				g = generated;
+
+				if (g == null) {
+					g = Generated.of(collectGenerated());
+					generated = g;
+				}
+			}
+		}
 
-				for (var dir : Files.list(root).filter(Files::isDirectory).toList()) {
-					var ns = dir.getFileName().toString();
+		return g;
+	}
 
-					if (debug) {
-						KubeJS.LOGGER.info("# Walking namespace '" + ns + "'");
-					}
+	private Map<ResourceLocation, GeneratedData> collectGenerated() {
+		var generated = new HashMap<ResourceLocation, GeneratedData>();
+		generate(generated);
 
-					for (var path : Files.walk(dir).filter(Files::isRegularFile).filter(Files::isReadable).toList()) {
-						var pathStr = dir.relativize(path).toString().replace('\\', '/').toLowerCase(Locale.ROOT);
-						int sindex = pathStr.lastIndexOf('/');
-						var fileNameLC = sindex == -1 ? pathStr : pathStr.substring(sindex + 1);
+		boolean debug = DevProperties.get().logGeneratedData;
 
-						if (fileNameLC.endsWith(".zip") || fileNameLC.equals(".ds_store") || fileNameLC.equals("thumbs.db") || fileNameLC.equals("desktop.ini") || Files.isHidden(path)) {
-							continue;
-						}
+		try {
+			var root = KubeJSPaths.get(packType);
+			var store = KubeFileContentStore.of(root);
+			store.prune();
 
-						var data = new GeneratedData(ResourceLocation.fromNamespaceAndPath(ns, pathStr), () -> {
-							try {
-								return Files.readAllBytes(path);
-							} catch (Exception ex) {
-								ex.printStackTrace();
-								return new byte[0];
-							}
-						});
+			for (var dir : Files.list(root).filter(Files::isDirectory).toList()) {
+				var ns = dir.getFileName().toString();
 
-						if (debug) {
-							KubeJS.LOGGER.info("- File found: '" + data.id() + "' (" + data.data().get().length + " bytes)");
-						}
+				if (debug) {
+					KubeJS.LOGGER.info("# Walking namespace '" + ns + "'");
+				}
+
+				for (var path : store.walk(dir)) {
+					var pathStr = dir.relativize(path).toString().replace('\\', '/').toLowerCase(Locale.ROOT);
+					int sindex = pathStr.lastIndexOf('/');
+					var fileNameLC = sindex == -1 ? pathStr : pathStr.substring(sindex + 1);
 
-						if (skipFile(data)) {
-							if (debug) {
-								KubeJS.LOGGER.info("- Skipping '" + data.id() + "'");
-							}
+					if (fileNameLC.endsWith(".zip") || fileNameLC.equals(".ds_store") || fileNameLC.equals("thumbs.db") || fileNameLC.equals("desktop.ini") || Files.isHidden(path)) {
+						continue;
+					}
 
-							continue;
+					var content = store.get(path);
+					var data = new GeneratedData(ResourceLocation.fromNamespaceAndPath(ns, pathStr), content);
+
+					if (debug) {
+						KubeJS.LOGGER.info("- File found: '" + data.id() + "' (" + content.size + " bytes" + (content.isLoaded() ? ", cached" : "") + ")");
+					}
+
+					if (skipFile(data)) {
+						if (debug) {
+							KubeJS.LOGGER.info("- Skipping '" + data.id() + "'");
 						}
 
-						generated.put(data.id(), data);
+						continue;
 					}
+
+					generated.put(data.id(), data);
 				}
-			} catch (Exception ex) {
-				KubeJS.LOGGER.error("Failed to load files from kubejs/" + packType.getDirectory(), ex);
 			}
+		} catch (Exception ex) {
+			KubeJS.LOGGER.error("Failed to load files from kubejs/" + packType.getDirectory(), ex);
+		}
 
-			generated.put(GeneratedData.INTERNAL_RELOAD.id(), GeneratedData.INTERNAL_RELOAD);
-
-			generated = Map.copyOf(generated);
+		generated.put(GeneratedData.INTERNAL_RELOAD.id(), GeneratedData.INTERNAL_RELOAD);
 
-			if (debug) {
-				KubeJS.LOGGER.info("Generated " + packType + " data (" + generated.size() + " files)");
-			}
+		if (debug) {
+			KubeJS.LOGGER.info("Generated " + packType + " data (" + generated.size() + " files)");
 		}
 
 		return generated;
@@ -234,13 +282,11 @@ public class KubeFileResourcePack implements PackResources {
 	@Override
 	public void listResources(PackType type, String namespace, String path, ResourceOutput visitor) {
 		if (type == packType) {
-			if (!path.endsWith("/")) {
-				path = path + "/";
-			}
+			var paths = generated().paths().get(namespace);
 
-			for (var r : getGenerated().entrySet()) {
-				if (r.getKey().getNamespace().equals(namespace) && r.getKey().getPath().startsWith(path)) {
-					visitor.accept(r.getKey(), r.getValue());
+			if (paths != null) {
+				for (var data : listPrefix(paths, path)) {
+					visitor.accept(data.id(), data);
 				}
 			}
 		}
@@ -250,15 +296,7 @@ public class KubeFileResourcePack implements PackResources {
 	@NotNull
 	public Set<String> getNamespaces(PackType type) {
 		if (type == packType) {
-			if (generatedNamespaces == null) {
-				generatedNamespaces = new HashSet<>();
-
-				for (var s : getGenerated().entrySet()) {
-					generatedNamespaces.add(s.getKey().getNamespace());
-				}
-			}
-
-			return generatedNamespaces;
+			return generated().namespaces();
 		}
 
 		return Collections.emptySet();
@@ -287,7 +325,6 @@ public class KubeFileResourcePack implements PackResources {
 	@Override
 	public void close() {
 		generated = null;
-		generatedNamespaces = null;
 	}
 
 	@Override
@@ -5,6 +5,7 @@ import dev.latvian.mods.kubejs.KubeJS;
 import dev.latvian.mods.kubejs.bindings.TextIcons;
 import dev.latvian.mods.kubejs.generator.KubeResourceGenerator;
 import dev.latvian.mods.kubejs.script.ScriptType;
+import dev.latvian.mods.kubejs.util.ExportWriter;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.AbstractPackResources;
@@ -15,14 +16,12 @@ import net.neoforged.fml.loading.FMLLoader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
 public class VirtualResourcePack extends AbstractPackResources implements KubeResourceGenerator, ExportablePackResources {
 	public final ScriptType scriptType;
@@ -32,7 +31,7 @@ public class VirtualResourcePack extends AbstractPackResources implements KubeRe
 	public final Component component;
 	private final Map<ResourceLocation, GeneratedData> locationToData;
 	private final Map<String, GeneratedData> pathToData;
-	private final Set<String> namespaces;
+	private final Map<String, NavigableMap<String, GeneratedData>> pathIndex;
 
 	public VirtualResourcePack(ScriptType scriptType, PackType packType, GeneratedDataStage stage) {
 		super(KubeFileResourcePack.PACK_LOCATION_INFO);
@@ -44,20 +43,20 @@ public class VirtualResourcePack extends AbstractPackResources implements KubeRe
 
 		this.locationToData = new HashMap<>();
 		this.pathToData = new HashMap<>();
-		this.namespaces = new HashSet<>();
+		this.pathIndex = new HashMap<>();
 	}
 
 	public void reset() {
 		locationToData.clear();
 		pathToData.clear();
-		namespaces.clear();
+		pathIndex.clear();
 	}
 
 	@Override
 	public void add(GeneratedData data) {
 		locationToData.put(data.id(), data);
 		pathToData.put(packType.getDirectory() + "/" + data.id().getNamespace() + "/" + data.id().getPath(), data);
-		namespaces.add(data.id().getNamespace());
+		pathIndex.computeIfAbsent(data.id().getNamespace(), k -> new TreeMap<>()).put(data.id().getPath(), data);
 
 		if (DevProperties.get().virtualPackOutput) {
 			scriptType.console.info("Registered virtual file [" + info + "] '" + data.id() + "': " + data);
@@ -101,21 +100,23 @@ public class VirtualResourcePack extends AbstractPackResources implements KubeRe
 	}
 
 	@Override
-	public void listResources(PackType packType, String namespace, String path, ResourceOutput visitor) {
-		if (!path.endsWith("/")) {
-			path = path + "/";
-		}
+	public void listResources(PackType type, String namespace, String path, ResourceOutput visitor) {
+		var paths = type == packType ? pathIndex.get(namespace) : null;
+
+		if (paths != null) {
+			for (var data : KubeFileResourcePack.listPrefix(paths, path)) {
+				if (DevProperties.get().virtualPackOutput) {
+					scriptType.console.info("Served virtual file [" + info + "] '" + data.id() + "': " + data);
+				}
 
-		for (ResourceLocation r : locationToData.keySet()) {
-			if (r.getNamespace().equals(namespace) && r.getPath().startsWith(path)) {
-				visitor.accept(r, getResource(packType, r));
+				visitor.accept(data.id(), data);
 			}
 		}
 	}
 
 	@Override
 	public Set<String> getNamespaces(PackType type) {
-		return Set.copyOf(namespaces);
+		return Set.copyOf(pathIndex.keySet());
 	}
 
 	@Nullable
@@ -140,16 +141,9 @@ public class VirtualResourcePack extends AbstractPackResources implements KubeRe
 	}
 
 	@Override
-	public void export(Path root) throws IOException {
+	public void export(ExportWriter writer) {
 		for (var file : pathToData.entrySet()) {
-			var path = root.resolve(file.getKey());
-			var parent = path.getParent();
-
-			if (Files.notExists(parent)) {
-				Files.createDirectories(parent);
-			}
-
-			Files.write(path, file.getValue().data().get());
+			writer.add(file.getKey(), file.getValue().data()::get);
 		}
 	}
 
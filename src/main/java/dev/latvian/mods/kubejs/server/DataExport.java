@@ -10,24 +10,24 @@ import dev.latvian.mods.kubejs.plugin.KubeJSPlugin;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
 import dev.latvian.mods.kubejs.script.ConsoleJS;
 import dev.latvian.mods.kubejs.script.ConsoleLine;
+import dev.latvian.mods.kubejs.util.ExportWriter;
 import dev.latvian.mods.kubejs.util.JsonUtils;
 import dev.latvian.mods.kubejs.util.LogType;
 import dev.latvian.mods.kubejs.util.TimeJS;
 import dev.latvian.mods.rhino.util.HideFromJS;
-import net.minecraft.Util;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
 import net.neoforged.fml.ModList;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Calendar;
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class DataExport {
@@ -36,7 +36,8 @@ public class DataExport {
 
 	public CommandSourceStack source;
 
-	private final Map<String, Callable<byte[]>> exportedFiles = new ConcurrentHashMap<>();
+	private final Set<String> exportedFiles = ConcurrentHashMap.newKeySet();
+	private ExportWriter writer;
 
 	public static void exportData() {
 		if (export != null) {
@@ -50,9 +51,13 @@ public class DataExport {
 		}
 	}
 
+	/**
+	 * Files are written in the background as soon as they're added, instead of being collected until the export finishes.
+	 */
 	public void add(String path, Callable<byte[]> data) {
 		try {
-			exportedFiles.put(path, data);
+			exportedFiles.add(path);
+			getWriter().add(path.replace(':', '/'), data);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
@@ -66,6 +71,28 @@ public class DataExport {
 		add(path, () -> JsonUtils.toPrettyString(json).getBytes(StandardCharsets.UTF_8));
 	}
 
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private synchronized ExportWriter getWriter() throws IOException {
+		if (writer == null) {
+			if (Files.exists(KubeJSPaths.EXPORT)) {
+				try (var stream = Files.walk(KubeJSPaths.EXPORT)) {
+					stream.sorted(Comparator.reverseOrder())
+						.filter(path -> !path.equals(KubeJSPaths.EXPORT))
+						.map(Path::toFile)
+						.forEach(File::delete);
+				}
+			}
+
+			if (Files.notExists(KubeJSPaths.EXPORT)) {
+				Files.createDirectory(KubeJSPaths.EXPORT);
+			}
+
+			writer = new ExportWriter(KubeJSPaths.EXPORT);
+		}
+
+		return writer;
+	}
+
 	private void appendLine(StringBuilder sb, Calendar calendar, ConsoleLine line) {
 		calendar.setTimeInMillis(line.timestamp);
 		sb.append('[');
@@ -86,7 +113,6 @@ public class DataExport {
 		sb.append('\n');
 	}
 
-	@SuppressWarnings({"resource", "ResultOfMethodCallIgnored"})
 	private void exportData0() throws Exception {
 		source.registryAccess().registries().forEach(reg -> {
 			var key = reg.key();
@@ -148,73 +174,20 @@ public class DataExport {
 
 		var index = new JsonArray();
 
-		exportedFiles.keySet()
-			.stream()
+		exportedFiles.stream()
 			.sorted(String.CASE_INSENSITIVE_ORDER)
 			.forEach(index::add);
 
 		addJson("index.json", index);
 
-		var exportedFilePaths = new HashSet<String>();
-
-		for (var file : exportedFiles.keySet()) {
-			exportedFilePaths.add(file.replace(':', '/'));
-		}
-
-		Files.walk(KubeJSPaths.EXPORT)
-			.sorted(Comparator.reverseOrder())
-			.filter(path -> {
-				if (Files.isDirectory(path)) {
-					return true;
-				}
-
-				return !exportedFilePaths.contains(KubeJSPaths.EXPORT.relativize(path).toString().replace('\\', '/'));
-			})
-			.map(Path::toFile)
-			.forEach(file -> {
-				if (file.isFile()) {
-					file.delete();
-					KubeJS.LOGGER.info("Deleted old file " + file.getPath());
-				} else if (file.isDirectory() && file.list().length == 0) {
-					file.delete();
-					KubeJS.LOGGER.info("Deleted empty directory " + file.getPath());
-				}
-			});
-
-		if (Files.notExists(KubeJSPaths.EXPORT)) {
-			Files.createDirectory(KubeJSPaths.EXPORT);
-		}
-
-		var arr = new CompletableFuture[exportedFiles.size()];
-		int i = 0;
-
-		for (var entry : exportedFiles.entrySet()) {
-			arr[i++] = CompletableFuture.runAsync(() -> {
-				try {
-					var path = KubeJSPaths.EXPORT.resolve(entry.getKey().replace(':', '/'));
-					var parent = path.getParent();
-
-					if (Files.notExists(parent)) {
-						Files.createDirectories(parent);
-					}
-
-					if (Files.notExists(path)) {
-						Files.createFile(path);
-					}
-
-					Files.write(path, entry.getValue().call());
-				} catch (Exception ex) {
-					ex.printStackTrace();
-				}
-			}, Util.ioPool());
-		}
-
-		CompletableFuture.allOf(arr).join();
+		var w = getWriter();
+		w.finish();
+		KubeJS.LOGGER.info("Exported " + w);
 
 		if (source.getServer().isSingleplayer()) {
-			source.sendSuccess(() -> Component.literal("Done! Export in local/kubejs/export").kjs$clickOpenFile(KubeJSPaths.EXPORT.toAbsolutePath().toString()), false);
+			source.sendSuccess(() -> Component.literal("Done! Exported " + w + " to local/kubejs/export").kjs$clickOpenFile(KubeJSPaths.EXPORT.toAbsolutePath().toString()), false);
 		} else {
-			source.sendSuccess(() -> Component.literal("Done! Export in local/kubejs/export"), false);
+			source.sendSuccess(() -> Component.literal("Done! Exported " + w + " to local/kubejs/export"), false);
 		}
 	}
 }
\ No newline at end of file
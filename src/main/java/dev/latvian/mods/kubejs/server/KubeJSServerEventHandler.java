@@ -9,6 +9,8 @@ import dev.latvian.mods.kubejs.gui.chest.CustomChestMenu;
 import dev.latvian.mods.kubejs.level.SimpleLevelKubeEvent;
 import dev.latvian.mods.kubejs.script.PlatformWrapper;
 import dev.latvian.mods.kubejs.script.ScriptType;
+import dev.latvian.mods.kubejs.script.data.KubeFileContentStore;
+import dev.latvian.mods.kubejs.stages.StageSync;
 import dev.latvian.mods.kubejs.util.RegistryAccessContainer;
 import dev.latvian.mods.kubejs.web.LocalWebServer;
 import dev.latvian.mods.kubejs.web.WebServerProperties;
@@ -36,6 +38,7 @@ import net.neoforged.neoforge.event.server.ServerAboutToStartEvent;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
 import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 import java.nio.file.Files;
 import java.util.HashMap;
@@ -112,6 +115,13 @@ public class KubeJSServerEventHandler {
 	@SubscribeEvent
 	public static void serverStopped(ServerStoppedEvent event) {
 		RegistryAccessContainer.current = RegistryAccessContainer.BUILTIN;
+		StageSync.clear();
+		KubeFileContentStore.clearAll();
+	}
+
+	@SubscribeEvent
+	public static void serverTick(ServerTickEvent.Post event) {
+		StageSync.flush();
 	}
 
 	@SubscribeEvent
@@ -8,6 +8,7 @@ import dev.latvian.mods.kubejs.bindings.event.ServerEvents;
 import dev.latvian.mods.kubejs.error.KubeRuntimeException;
 import dev.latvian.mods.kubejs.item.ItemBuilder;
 import dev.latvian.mods.kubejs.item.ItemModificationKubeEvent;
+import dev.latvian.mods.kubejs.net.KubeServerData;
 import dev.latvian.mods.kubejs.net.SyncServerDataPayload;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugin;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
@@ -28,6 +29,7 @@ import dev.latvian.mods.kubejs.util.Cast;
 import dev.latvian.mods.kubejs.util.RegistryAccessContainer;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackResources;
@@ -35,6 +37,7 @@ import net.minecraft.server.packs.PackType;
 import net.neoforged.fml.loading.FMLLoader;
 import net.neoforged.neoforge.registries.DataPackRegistriesHooks;
 import net.neoforged.neoforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -83,7 +86,8 @@ public class ServerScriptManager extends ScriptManager {
 
 	public final Map<ResourceKey<?>, PreTagKubeEvent> preTagEvents;
 	public final RecipeSchemaStorage recipeSchemaStorage;
-	public SyncServerDataPayload serverData;
+	public KubeServerData serverData;
+	private SyncServerDataPayload serverDataPayload;
 	public final VirtualDataPack internalDataPack;
 	public final VirtualDataPack registriesDataPack;
 	public final Map<GeneratedDataStage, VirtualDataPack> virtualPacks;
@@ -227,6 +231,7 @@ public class ServerScriptManager extends ScriptManager {
 		}
 
 		serverData = null;
+		serverDataPayload = null;
 
 		super.reload();
 
@@ -239,6 +244,18 @@ public class ServerScriptManager extends ScriptManager {
 		}
 	}
 
+	/**
+	 * @return server data encoded once and shared by every player, or null if it hasn't been collected yet
+	 */
+	@Nullable
+	public synchronized SyncServerDataPayload getServerDataPayload(RegistryAccess registryAccess) {
+		if (serverDataPayload == null && serverData != null) {
+			serverDataPayload = SyncServerDataPayload.encode(serverData, registryAccess);
+		}
+
+		return serverDataPayload;
+	}
+
 	@Override
 	protected void fullReload() {
 		var server = ServerLifecycleHooks.getCurrentServer();
@@ -0,0 +1,250 @@
+package dev.latvian.mods.kubejs.server.tag;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagLoader;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Tag entries grouped by element or tag id, so membership checks and removal by id don't scan the whole tag.
+ * <p>
+ * Entries are kept in order of first insertion of their id. Repeated entries of the same id are grouped at the position of the first one,
+ * which doesn't change the loaded tag, as {@link TagLoader} keeps the first occurrence of every element.
+ */
+public class TagEntryList extends AbstractList<TagLoader.EntryWithSource> {
+	private record Key(ResourceLocation id, boolean tag) {
+	}
+
+	private static Key key(TagLoader.EntryWithSource entry) {
+		return new Key(entry.entry().id, entry.entry().tag);
+	}
+
+	private final Map<Key, List<TagLoader.EntryWithSource>> entries;
+	private int size;
+	private volatile TagLoader.EntryWithSource[] array;
+
+	public TagEntryList(Collection<TagLoader.EntryWithSource> original) {
+		this.entries = new LinkedHashMap<>();
+		this.size = 0;
+		this.array = null;
+
+		for (var entry : original) {
+			add(entry);
+		}
+	}
+
+	@Override
+	public boolean add(TagLoader.EntryWithSource entry) {
+		entries.computeIfAbsent(key(entry), k -> new ArrayList<>(1)).add(entry);
+		size++;
+		changed();
+		return true;
+	}
+
+	public boolean contains(ResourceLocation id, boolean tag) {
+		var list = entries.get(new Key(id, tag));
+		return list != null && !list.isEmpty();
+	}
+
+	/**
+	 * @return number of removed entries
+	 */
+	public int remove(ResourceLocation id, boolean tag) {
+		var removed = entries.remove(new Key(id, tag));
+
+		if (removed == null) {
+			return 0;
+		}
+
+		size -= removed.size();
+		changed();
+		return removed.size();
+	}
+
+	/**
+	 * @return number of removed entries
+	 */
+	public int removeMatching(Predicate<? super TagLoader.EntryWithSource> filter) {
+		int count = 0;
+		var itr = entries.values().iterator();
+
+		while (itr.hasNext()) {
+			var list = itr.next();
+			int s = list.size();
+
+			if (list.removeIf(filter)) {
+				count += s - list.size();
+
+				if (list.isEmpty()) {
+					itr.remove();
+				}
+			}
+		}
+
+		if (count > 0) {
+			size -= count;
+			changed();
+		}
+
+		return count;
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super TagLoader.EntryWithSource> filter) {
+		return removeMatching(filter) > 0;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof TagLoader.EntryWithSource entry)) {
+			return false;
+		}
+
+		var k = key(entry);
+		var list = entries.get(k);
+
+		if (list == null || !list.remove(entry)) {
+			return false;
+		}
+
+		if (list.isEmpty()) {
+			entries.remove(k);
+		}
+
+		size--;
+		changed();
+		return true;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		return removeMatching(c::contains) > 0;
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		return removeMatching(entry -> !c.contains(entry)) > 0;
+	}
+
+	@Override
+	public TagLoader.EntryWithSource remove(int index) {
+		var entry = get(index);
+		var list = entries.get(key(entry));
+
+		for (int i = 0; i < list.size(); i++) {
+			if (list.get(i) == entry) {
+				list.remove(i);
+				break;
+			}
+		}
+
+		if (list.isEmpty()) {
+			entries.remove(key(entry));
+		}
+
+		size--;
+		changed();
+		return entry;
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+		size = 0;
+		changed();
+	}
+
+	@Override
+	public TagLoader.EntryWithSource get(int index) {
+		if (array == null) {
+			var a = new TagLoader.EntryWithSource[size];
+			int i = 0;
+
+			for (var list : entries.values()) {
+				for (var entry : list) {
+					a[i++] = entry;
+				}
+			}
+
+			array = a;
+		}
+
+		return array[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<TagLoader.EntryWithSource> iterator() {
+		return new Itr();
+	}
+
+	private void changed() {
+		array = null;
+		modCount++;
+	}
+
+	private class Itr implements Iterator<TagLoader.EntryWithSource> {
+		private final Iterator<List<TagLoader.EntryWithSource>> lists = entries.values().iterator();
+		private Iterator<TagLoader.EntryWithSource> list = Collections.emptyIterator();
+		private List<TagLoader.EntryWithSource> current = null;
+		private Iterator<TagLoader.EntryWithSource> last = null;
+		private List<TagLoader.EntryWithSource> lastList = null;
+
+		@Override
+		public boolean hasNext() {
+			while (!list.hasNext()) {
+				if (!lists.hasNext()) {
+					return false;
+				}
+
+				current = lists.next();
+				list = current.iterator();
+			}
+
+			return true;
+		}
+
+		@Override
+		public TagLoader.EntryWithSource next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			var entry = list.next();
+			last = list;
+			lastList = current;
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			if (last == null) {
+				throw new IllegalStateException();
+			}
+
+			last.remove();
+			last = null;
+
+			// If hasNext() already moved on to the next id, the empty group is left in place and skipped by contains()
+			if (lastList.isEmpty() && lastList == current) {
+				lists.remove();
+			}
+
+			size--;
+			changed();
+		}
+	}
+}
@@ -90,19 +90,7 @@ public interface TagEventFilter {
 	}
 
 	default int remove(TagWrapper wrapper) {
-		int count = 0;
-		var itr = wrapper.entries.iterator();
-
-		while (itr.hasNext()) {
-			var it = itr.next();
-
-			if (!it.entry().tag && testElementId(it.entry().id)) {
-				itr.remove();
-				count++;
-			}
-		}
-
-		return count;
+		return wrapper.entries.removeMatching(it -> !it.entry().tag && testElementId(it.entry().id));
 	}
 
 	class Empty implements TagEventFilter {
@@ -203,6 +191,11 @@ public interface TagEventFilter {
 				return 0;
 			}
 		}
+
+		@Override
+		public int remove(TagWrapper wrapper) {
+			return wrapper.entries.remove(id, false);
+		}
 	}
 
 	record Tag(TagWrapper tag) implements TagEventFilter {
@@ -224,20 +217,16 @@ public interface TagEventFilter {
 
 		@Override
 		public int remove(TagWrapper wrapper) {
-			int count = 0;
-			var itr = wrapper.entries.iterator();
-
-			while (itr.hasNext()) {
-				var it = itr.next();
-
-				if (it.entry().tag && it.entry().id.equals(tag.id)) {
-					itr.remove();
-					count++;
-				}
-			}
+			return wrapper.entries.remove(tag.id, true);
+		}
+	}
 
-			return count;
+	static int addAll(TagWrapper wrapper, List<ResourceLocation> ids) {
+		for (var id : ids) {
+			wrapper.entries.add(new TagLoader.EntryWithSource(TagEntry.element(id), TagKubeEvent.SOURCE));
 		}
+
+		return ids.size();
 	}
 
 	record Namespace(String namespace) implements TagEventFilter {
@@ -245,6 +234,11 @@ public interface TagEventFilter {
 		public boolean testElementId(ResourceLocation id) {
 			return id.getNamespace().equals(namespace);
 		}
+
+		@Override
+		public int add(TagWrapper wrapper) {
+			return addAll(wrapper, wrapper.event.getElementIds(namespace));
+		}
 	}
 
 	record RegEx(Pattern pattern) implements TagEventFilter {
@@ -252,5 +246,10 @@ public interface TagEventFilter {
 		public boolean testElementId(ResourceLocation id) {
 			return pattern.matcher(id.toString()).find();
 		}
+
+		@Override
+		public int add(TagWrapper wrapper) {
+			return addAll(wrapper, wrapper.event.getElementIds(pattern));
+		}
 	}
 }
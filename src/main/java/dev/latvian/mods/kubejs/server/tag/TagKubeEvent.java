@@ -13,9 +13,12 @@ import net.minecraft.tags.TagLoader;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class TagKubeEvent implements KubeEvent {
@@ -44,6 +47,8 @@ public class TagKubeEvent implements KubeEvent {
 	public int totalAdded;
 	public int totalRemoved;
 	private Set<ResourceLocation> elementIds;
+	private Map<String, List<ResourceLocation>> elementIdsByNamespace;
+	private final Map<String, List<ResourceLocation>> elementIdsByRegex;
 
 	public TagKubeEvent(ResourceKey<?> registryKey, Registry<?> vr) {
 		this.registryKey = registryKey;
@@ -51,6 +56,7 @@ public class TagKubeEvent implements KubeEvent {
 		this.tags = new ConcurrentHashMap<>();
 		this.totalAdded = 0;
 		this.totalRemoved = 0;
+		this.elementIdsByRegex = new HashMap<>();
 	}
 
 	public ResourceLocation getType() {
@@ -62,7 +68,7 @@ public class TagKubeEvent implements KubeEvent {
 	}
 
 	protected TagWrapper createTagWrapper(ResourceLocation id) {
-		return new TagWrapper(this, id, new ArrayList<>());
+		return new TagWrapper(this, id, List.of());
 	}
 
 	public TagWrapper add(ResourceLocation tag, Object... filters) {
@@ -93,6 +99,37 @@ public class TagKubeEvent implements KubeEvent {
 		return elementIds;
 	}
 
+	public List<ResourceLocation> getElementIds(String namespace) {
+		if (elementIdsByNamespace == null) {
+			var map = new HashMap<String, List<ResourceLocation>>();
+
+			for (var id : getElementIds()) {
+				map.computeIfAbsent(id.getNamespace(), k -> new ArrayList<>()).add(id);
+			}
+
+			elementIdsByNamespace = map;
+		}
+
+		return elementIdsByNamespace.getOrDefault(namespace, List.of());
+	}
+
+	/**
+	 * Element ids matching a pattern, remembered for the rest of the event, as the same pattern is often used for many tags.
+	 */
+	public List<ResourceLocation> getElementIds(Pattern pattern) {
+		return elementIdsByRegex.computeIfAbsent(pattern.flags() + "/" + pattern.pattern(), k -> {
+			var list = new ArrayList<ResourceLocation>();
+
+			for (var id : getElementIds()) {
+				if (pattern.matcher(id.toString()).find()) {
+					list.add(id);
+				}
+			}
+
+			return List.copyOf(list);
+		});
+	}
+
 	void gatherIdsFor(TagWrapper excluded, Collection<ResourceLocation> collection, TagLoader.EntryWithSource entry) {
 		var id = entry.entry().elementOrTag();
 
@@ -4,20 +4,22 @@ import dev.latvian.mods.kubejs.DevProperties;
 import dev.latvian.mods.kubejs.script.ConsoleJS;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagLoader;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 
 public class TagWrapper {
 	public final TagKubeEvent event;
 	public final ResourceLocation id;
-	public final List<TagLoader.EntryWithSource> entries;
+	public final TagEntryList entries;
 
-	public TagWrapper(TagKubeEvent e, ResourceLocation i, List<TagLoader.EntryWithSource> t) {
+	public TagWrapper(TagKubeEvent e, ResourceLocation i, @Nullable Collection<TagLoader.EntryWithSource> t) {
 		event = e;
 		id = i;
-		entries = t;
+		entries = t == null ? null : t instanceof TagEntryList l ? l : new TagEntryList(t);
 	}
 
 	@Override
@@ -0,0 +1,97 @@
+package dev.latvian.mods.kubejs.stages;
+
+import com.google.gson.JsonObject;
+import dev.latvian.mods.kubejs.CommonProperties;
+import dev.latvian.mods.kubejs.net.StageChangesPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects stage changes during a server tick and sends them as one {@link StageChangesPayload} per player at the end of the tick.
+ * <p>
+ * Who receives the changes depends on <code>stage_sync</code> in the common properties -
+ * <code>all</code> sends them to every player, <code>tracking</code> to the player and players tracking them, <code>self</code> only to the player.
+ */
+public final class StageSync {
+	private record Pending(ServerPlayer player, Map<String, Boolean> changes) {
+	}
+
+	private static final Map<ServerPlayer, Pending> PENDING = new LinkedHashMap<>();
+	private static final LongAdder CHANGES = new LongAdder();
+	private static final LongAdder PAYLOADS = new LongAdder();
+
+	public static synchronized void changed(ServerPlayer player, String stage, boolean added) {
+		PENDING.computeIfAbsent(player, p -> new Pending(p, new LinkedHashMap<>())).changes.put(stage, added);
+		CHANGES.increment();
+	}
+
+	public static void flush() {
+		Pending[] pending;
+
+		synchronized (StageSync.class) {
+			if (PENDING.isEmpty()) {
+				return;
+			}
+
+			pending = PENDING.values().toArray(new Pending[0]);
+			PENDING.clear();
+		}
+
+		var mode = CommonProperties.get().stageSync;
+
+		for (var p : pending) {
+			if (p.player.hasDisconnected()) {
+				continue;
+			}
+
+			var added = new ArrayList<String>();
+			var removed = new ArrayList<String>();
+
+			for (var entry : p.changes.entrySet()) {
+				(entry.getValue() ? added : removed).add(entry.getKey());
+			}
+
+			var payload = new StageChangesPayload(p.player.getUUID(), added, removed);
+
+			switch (mode) {
+				case "self" -> PacketDistributor.sendToPlayer(p.player, payload);
+				case "tracking" -> PacketDistributor.sendToPlayersTrackingEntityAndSelf(p.player, payload);
+				default -> PacketDistributor.sendToAllPlayers(payload);
+			}
+
+			PAYLOADS.increment();
+		}
+	}
+
+	/**
+	 * Drops buffered changes of <code>player</code>, called before a full sync so older changes can't arrive after it.
+	 */
+	public static synchronized void discard(ServerPlayer player) {
+		PENDING.remove(player);
+	}
+
+	public static synchronized void clear() {
+		PENDING.clear();
+	}
+
+	/**
+	 * @return number of payloads saved compared to sending one for every stage change
+	 */
+	public static long getPayloadsSaved() {
+		return CHANGES.sum() - PAYLOADS.sum();
+	}
+
+	public static JsonObject toJson() {
+		var json = new JsonObject();
+		json.addProperty("mode", CommonProperties.get().stageSync);
+		json.addProperty("changes", CHANGES.sum());
+		json.addProperty("payloads", PAYLOADS.sum());
+		json.addProperty("payloads_saved", getPayloadsSaved());
+		return json;
+	}
+}
@@ -1,8 +1,6 @@
 package dev.latvian.mods.kubejs.stages;
 
 import dev.latvian.mods.kubejs.bindings.event.PlayerEvents;
-import dev.latvian.mods.kubejs.net.AddStagePayload;
-import dev.latvian.mods.kubejs.net.RemoveStagePayload;
 import dev.latvian.mods.kubejs.net.SyncStagesPayload;
 import dev.latvian.mods.kubejs.player.StageChangedEvent;
 import net.minecraft.server.level.ServerPlayer;
@@ -28,7 +26,7 @@ public interface Stages {
 	default boolean add(String stage) {
 		if (addNoUpdate(stage)) {
 			if (getPlayer() instanceof ServerPlayer player) {
-				PacketDistributor.sendToAllPlayers(new AddStagePayload(player.getUUID(), stage));
+				StageSync.changed(player, stage, true);
 			}
 
 			if (PlayerEvents.STAGE_ADDED.hasListeners(stage)) {
@@ -44,7 +42,7 @@ public interface Stages {
 	default boolean remove(String stage) {
 		if (removeNoUpdate(stage)) {
 			if (getPlayer() instanceof ServerPlayer player) {
-				PacketDistributor.sendToAllPlayers(new RemoveStagePayload(player.getUUID(), stage));
+				StageSync.changed(player, stage, false);
 			}
 
 			if (PlayerEvents.STAGE_REMOVED.hasListeners(stage)) {
@@ -81,6 +79,7 @@ public interface Stages {
 
 	default void sync() {
 		if (getPlayer() instanceof ServerPlayer player) {
+			StageSync.discard(player);
 			PacketDistributor.sendToPlayer(player, new SyncStagesPayload(getAll()));
 		}
 	}
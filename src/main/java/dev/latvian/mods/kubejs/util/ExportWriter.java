@@ -0,0 +1,103 @@
+package dev.latvian.mods.kubejs.util;
+
+import dev.latvian.mods.kubejs.KubeJS;
+import net.minecraft.Util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serializes and writes exported files in the background, straight to one or more roots, which can be directories or zip file systems.
+ * <p>
+ * At most {@link #MAX_PENDING} files are in flight at once, {@link #add(String, Callable)} blocks the caller when the limit is reached,
+ * so exported data doesn't pile up in memory. Writes to zip file systems compress each entry on the thread that writes it, so entries are compressed in parallel.
+ * Writes to the same path are applied in the order they were added.
+ */
+public class ExportWriter {
+	public static final int MAX_PENDING = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+	public final Path[] roots;
+	private final Semaphore pending;
+	private final Map<String, CompletableFuture<Void>> writes;
+	private final LongAdder files;
+	private final LongAdder bytes;
+	private final LongAdder failed;
+	private final long start;
+
+	public ExportWriter(Path... roots) {
+		this.roots = roots;
+		this.pending = new Semaphore(MAX_PENDING);
+		this.writes = new ConcurrentHashMap<>();
+		this.files = new LongAdder();
+		this.bytes = new LongAdder();
+		this.failed = new LongAdder();
+		this.start = System.nanoTime();
+	}
+
+	public void add(String path, Callable<byte[]> data) {
+		pending.acquireUninterruptibly();
+
+		Runnable task = () -> {
+			try {
+				var b = data.call();
+
+				for (var root : roots) {
+					var p = root.resolve(path);
+					var parent = p.getParent();
+
+					if (parent != null && Files.notExists(parent)) {
+						Files.createDirectories(parent);
+					}
+
+					Files.write(p, b);
+				}
+
+				files.increment();
+				bytes.add(b.length);
+			} catch (Exception ex) {
+				failed.increment();
+				KubeJS.LOGGER.error("Failed to export " + path, ex);
+			} finally {
+				pending.release();
+			}
+		};
+
+		var future = writes.compute(path, (k, prev) -> prev == null ? CompletableFuture.runAsync(task, Util.ioPool()) : prev.thenRunAsync(task, Util.ioPool()));
+		future.whenComplete((v, ex) -> writes.remove(path, future));
+	}
+
+	/**
+	 * Blocks until every added file has been written.
+	 */
+	public void finish() {
+		pending.acquireUninterruptibly(MAX_PENDING);
+		pending.release(MAX_PENDING);
+	}
+
+	public long getFiles() {
+		return files.sum();
+	}
+
+	public long getBytes() {
+		return bytes.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	@Override
+	public String toString() {
+		double seconds = Math.max(1L, System.nanoTime() - start) / 1_000_000_000D;
+		double mb = getBytes() / 1_048_576D;
+		var s = "%d files, %.2f MB in %.2f s (%.2f MB/s)".formatted(getFiles(), mb, seconds, mb / seconds);
+		long f = getFailed();
+		return f > 0L ? s + ", " + f + " failed" : s;
+	}
+}
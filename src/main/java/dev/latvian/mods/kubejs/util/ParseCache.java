@@ -0,0 +1,117 @@
+package dev.latvian.mods.kubejs.util;
+
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache of parsed string literals.
+ * <p>
+ * Entries live in two generations. New entries go to the young one, and once it holds half of <code>maxSize</code>,
+ * it becomes the old generation and the previous old one is dropped. Hits in the old generation are moved back to the young one,
+ * so frequently used literals survive while one-off ones are evicted.
+ * <p>
+ * Cached values are shared between callers, mutable values such as item stacks must be copied before they are returned to scripts.
+ */
+public final class ParseCache<V> {
+	public final String name;
+	private final int maxSize;
+	private volatile Map<String, V> young;
+	private volatile Map<String, V> old;
+	private final LongAdder hits;
+	private final LongAdder misses;
+	private final LongAdder evictions;
+
+	public ParseCache(String name, int maxSize) {
+		this.name = name;
+		this.maxSize = Math.max(2, maxSize);
+		this.young = new ConcurrentHashMap<>();
+		this.old = Map.of();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.evictions = new LongAdder();
+	}
+
+	public V get(String key, Function<String, V> parser) {
+		var value = young.get(key);
+
+		if (value != null) {
+			hits.increment();
+			return value;
+		}
+
+		value = old.get(key);
+
+		if (value != null) {
+			hits.increment();
+			put(key, value);
+			return value;
+		}
+
+		misses.increment();
+		value = parser.apply(key);
+
+		if (value != null) {
+			put(key, value);
+		}
+
+		return value;
+	}
+
+	private void put(String key, V value) {
+		var map = young;
+		map.put(key, value);
+
+		if (map.size() >= maxSize / 2) {
+			rotate(map);
+		}
+	}
+
+	private synchronized void rotate(Map<String, V> expected) {
+		if (young == expected) {
+			evictions.add(old.size());
+			old = expected;
+			young = new ConcurrentHashMap<>();
+		}
+	}
+
+	public synchronized void clear() {
+		young = new ConcurrentHashMap<>();
+		old = Map.of();
+	}
+
+	public int size() {
+		return young.size() + old.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public JsonObject toJson() {
+		var json = new JsonObject();
+		json.addProperty("name", name);
+		json.addProperty("size", size());
+		json.addProperty("max_size", maxSize);
+		json.addProperty("hits", getHits());
+		json.addProperty("misses", getMisses());
+		json.addProperty("evictions", getEvictions());
+		return json;
+	}
+
+	@Override
+	public String toString() {
+		return name + " [" + size() + "/" + maxSize + ", " + getHits() + " hits, " + getMisses() + " misses, " + getEvictions() + " evictions]";
+	}
+}
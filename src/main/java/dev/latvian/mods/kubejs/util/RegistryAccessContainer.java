@@ -6,6 +6,7 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.JavaOps;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.MapCodec;
+import dev.latvian.mods.kubejs.CommonProperties;
 import dev.latvian.mods.kubejs.bindings.RegistryWrapper;
 import dev.latvian.mods.kubejs.recipe.CachedItemTagLookup;
 import dev.latvian.mods.kubejs.recipe.CachedTagLookup;
@@ -14,6 +15,7 @@ import dev.latvian.mods.kubejs.script.KubeJSContext;
 import dev.latvian.mods.kubejs.server.DataExport;
 import dev.latvian.mods.rhino.Context;
 import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -27,9 +29,14 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagLoader;
 import net.minecraft.world.damagesource.DamageSources;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.material.Fluid;
 import net.neoforged.neoforge.common.conditions.ICondition;
+import net.neoforged.neoforge.common.crafting.SizedIngredient;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.crafting.FluidIngredient;
+import net.neoforged.neoforge.fluids.crafting.SizedFluidIngredient;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.ArrayList;
@@ -45,6 +52,8 @@ public final class RegistryAccessContainer implements ICondition.IContext {
 	@ApiStatus.Internal
 	public static RegistryAccessContainer current = BUILTIN;
 
+	private static final int PARSE_CACHE_SIZE = 4096;
+
 	public static RegistryAccessContainer of(Context cx) {
 		return cx instanceof KubeJSContext kcx ? kcx.getRegistries() : current;
 	}
@@ -54,7 +63,12 @@ public final class RegistryAccessContainer implements ICondition.IContext {
 	private final RegistryOps<JsonElement> json;
 	private final RegistryOps<Object> java;
 	private DamageSources damageSources;
-	private final Map<String, ItemStack> itemStackParseCache;
+	private final ParseCache<ItemStack> itemStackParseCache;
+	private final ParseCache<Ingredient> ingredientParseCache;
+	private final ParseCache<SizedIngredient> sizedIngredientParseCache;
+	private final ParseCache<FluidStack> fluidStackParseCache;
+	private final ParseCache<FluidIngredient> fluidIngredientParseCache;
+	private final ParseCache<SizedFluidIngredient> sizedFluidIngredientParseCache;
 	public final Map<ResourceKey<?>, CachedTagLookup.Entry<?>> cachedRegistryTags;
 	public CachedItemTagLookup cachedItemTags;
 	public CachedTagLookup<Block> cachedBlockTags;
@@ -67,7 +81,12 @@ public final class RegistryAccessContainer implements ICondition.IContext {
 		this.json = access.createSerializationContext(JsonOps.INSTANCE);
 		this.java = access.createSerializationContext(JavaOps.INSTANCE);
 		this.damageSources = null;
-		this.itemStackParseCache = new HashMap<>();
+		this.itemStackParseCache = new ParseCache<>("item_stack", PARSE_CACHE_SIZE);
+		this.ingredientParseCache = new ParseCache<>("ingredient", PARSE_CACHE_SIZE);
+		this.sizedIngredientParseCache = new ParseCache<>("sized_ingredient", PARSE_CACHE_SIZE);
+		this.fluidStackParseCache = new ParseCache<>("fluid_stack", PARSE_CACHE_SIZE);
+		this.fluidIngredientParseCache = new ParseCache<>("fluid_ingredient", PARSE_CACHE_SIZE);
+		this.sizedFluidIngredientParseCache = new ParseCache<>("sized_fluid_ingredient", PARSE_CACHE_SIZE);
 		this.cachedRegistryTags = new Reference2ObjectOpenHashMap<>();
 	}
 
@@ -95,10 +114,43 @@ public final class RegistryAccessContainer implements ICondition.IContext {
 		return damageSources;
 	}
 
-	public Map<String, ItemStack> itemStackParseCache() {
+	/**
+	 * Cached values are shared, item stacks must be copied
+	 */
+	public ParseCache<ItemStack> itemStackParseCache() {
 		return itemStackParseCache;
 	}
 
+	/**
+	 * Tag ingredients shouldn't be cached, their item list is resolved once and would go stale after a tag reload
+	 */
+	public ParseCache<Ingredient> ingredientParseCache() {
+		return ingredientParseCache;
+	}
+
+	public ParseCache<SizedIngredient> sizedIngredientParseCache() {
+		return sizedIngredientParseCache;
+	}
+
+	/**
+	 * Cached values are shared, fluid stacks must be copied
+	 */
+	public ParseCache<FluidStack> fluidStackParseCache() {
+		return fluidStackParseCache;
+	}
+
+	public ParseCache<FluidIngredient> fluidIngredientParseCache() {
+		return fluidIngredientParseCache;
+	}
+
+	public ParseCache<SizedFluidIngredient> sizedFluidIngredientParseCache() {
+		return sizedFluidIngredientParseCache;
+	}
+
+	public List<ParseCache<?>> parseCaches() {
+		return List.of(itemStackParseCache, ingredientParseCache, sizedIngredientParseCache, fluidStackParseCache, fluidIngredientParseCache, sizedFluidIngredientParseCache);
+	}
+
 	// Currently this is the best way I can think of to have tags available at the time of recipe loading
 	public synchronized <T> void cacheTags(Registry<T> registry, Map<ResourceLocation, List<TagLoader.EntryWithSource>> map) {
 		var key1 = registry == null ? null : (ResourceKey) registry.key();
@@ -108,17 +160,25 @@ public final class RegistryAccessContainer implements ICondition.IContext {
 		}
 
 		try {
+			CachedTagLookup<?> lookup;
+
 			if (key1 == Registries.ITEM) {
 				cachedItemTags = Cast.to(new CachedItemTagLookup((Registry) registry, map));
-				cachedRegistryTags.put(key1, new CachedTagLookup.Entry(key1, registry, cachedItemTags));
+				lookup = cachedItemTags;
 			} else if (key1 == Registries.BLOCK) {
 				cachedBlockTags = Cast.to(new CachedTagLookup<>(registry, map));
-				cachedRegistryTags.put(key1, new CachedTagLookup.Entry(key1, registry, cachedBlockTags));
+				lookup = cachedBlockTags;
 			} else if (key1 == Registries.FLUID) {
 				cachedFluidTags = Cast.to(new CachedTagLookup<>(registry, map));
-				cachedRegistryTags.put(key1, new CachedTagLookup.Entry(key1, registry, cachedFluidTags));
+				lookup = cachedFluidTags;
 			} else {
-				cachedRegistryTags.put(key1, new CachedTagLookup.Entry(key1, registry, new CachedTagLookup<>(registry, map)));
+				lookup = new CachedTagLookup<>(registry, map);
+			}
+
+			cachedRegistryTags.put(key1, new CachedTagLookup.Entry(key1, registry, lookup));
+
+			if (CommonProperties.get().parallelTagLoading) {
+				lookup.buildAsync(Util.backgroundExecutor());
 			}
 		} catch (Exception ex) {
 			ConsoleJS.SERVER.error("Error caching tags for " + key1, ex);
@@ -13,9 +13,11 @@ import dev.latvian.apps.tinyserver.ws.Frame;
 import dev.latvian.apps.tinyserver.ws.WSHandler;
 import dev.latvian.mods.kubejs.KubeJS;
 import dev.latvian.mods.kubejs.KubeJSPaths;
+import dev.latvian.mods.kubejs.event.EventHandlerMetrics;
 import dev.latvian.mods.kubejs.plugin.KubeJSPlugins;
 import dev.latvian.mods.kubejs.script.ScriptType;
 import dev.latvian.mods.kubejs.script.data.GeneratedData;
+import dev.latvian.mods.kubejs.stages.StageSync;
 import dev.latvian.mods.kubejs.util.RegExpKJS;
 import dev.latvian.mods.kubejs.web.JsonContent;
 import dev.latvian.mods.kubejs.web.KJSHTTPRequest;
@@ -130,6 +132,11 @@ public class KubeJSWeb {
 		registry.get("/api/browse/{directory}", KubeJSWeb::getBrowseDir);
 		registry.get("/api/browse/{directory}/<file>", KubeJSWeb::getBrowseFile);
 
+		registry.get("/api/metrics/events", KubeJSWeb::getEventMetricsResponse); // Invocation count and timings of script event handlers
+		registry.acceptPostTask("/api/metrics/events/reset", EventHandlerMetrics::resetAll);
+		registry.get("/api/metrics/parse-caches", KubeJSWeb::getParseCacheMetricsResponse); // Size, hits and misses of string parse caches
+		registry.get("/api/metrics/stages", KubeJSWeb::getStageMetricsResponse); // Stage changes and payloads sent to clients
+
 		registry.get("/api/registries", KubeJSWeb::getRegistriesResponse); // List of all registries
 		registry.get("/api/registries/{namespace}/{path}/keys", KubeJSWeb::getRegistryKeysResponse); // List of all IDs in registry
 		registry.get("/api/registries/{namespace}/{path}/match/{regex}", KubeJSWeb::getRegistryMatchResponse); // List of RegEx matched IDs in registry
@@ -354,6 +361,22 @@ public class KubeJSWeb {
 		}
 	}
 
+	private static HTTPResponse getEventMetricsResponse(KJSHTTPRequest req) {
+		return HTTPResponse.ok().content(JsonContent.any(EventHandlerMetrics::toJson));
+	}
+
+	private static HTTPResponse getParseCacheMetricsResponse(KJSHTTPRequest req) {
+		return HTTPResponse.ok().content(JsonContent.array(json -> {
+			for (var cache : req.registries().parseCaches()) {
+				json.add(cache.toJson());
+			}
+		}));
+	}
+
+	private static HTTPResponse getStageMetricsResponse(KJSHTTPRequest req) {
+		return HTTPResponse.ok().content(JsonContent.any(StageSync::toJson));
+	}
+
 	private static HTTPResponse getRegistriesResponse(KJSHTTPRequest req) {
 		return HTTPResponse.ok().content(JsonContent.array(json -> {
 			for (var registry : req.registries().access().registries().toList()) {